@@ -0,0 +1,46 @@
+package org.saad.Benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+import org.saad.Framework.DriverFactory;
+import org.saad.Framework.FixtureServer;
+
+/**
+ * One headless browser and one fixture server per benchmark trial, so the
+ * numbers measure WebDriver work and not the internet or browser start-up.
+ * -Dbrowser picks the browser as in the main project.
+ */
+@State(Scope.Benchmark)
+public class BrowserState {
+
+    public FixtureServer fixtures;
+    public WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        if (System.getProperty("headless") == null) {
+            System.setProperty("headless", "true");
+        }
+        fixtures = FixtureServer.start(0);
+        driver = DriverFactory.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBrowser() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (fixtures != null) {
+            fixtures.close();
+        }
+    }
+
+    // e.g. page("rahulshettyacademy.com/locatorspractice/")
+    public String page(String hostAndPath) {
+        return fixtures.baseUrl() + "/" + hostAndPath;
+    }
+}
@@ -0,0 +1,70 @@
+package org.saad.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.saad.Framework.BulkElements;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How findElements and reading the result grow with the number of product
+ * cards on the seleniumPractise fixture (its ?count= parameter sets the size).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FindElementsScalingBenchmark {
+
+    @Param({"10", "100", "1000", "5000"})
+    public int domSize;
+
+    @Param({"css", "xpath"})
+    public String strategy;
+
+    private By products;
+
+    @Setup(Level.Trial)
+    public void openPage(BrowserState browser) {
+        products = strategy.equals("css")
+                ? By.cssSelector("h4.product-name")
+                : By.xpath("//h4[@class='product-name']");
+        browser.driver.get(browser.page("rahulshettyacademy.com/seleniumPractise/?count=" + domSize));
+    }
+
+    @Benchmark
+    public int findElements(BrowserState browser) {
+        return browser.driver.findElements(products).size();
+    }
+
+    // what EcommerceAddingtoCart used to do: one getText() round trip per card
+    @Benchmark
+    public List<String> textsOneByOne(BrowserState browser) {
+        List<String> texts = new ArrayList<>();
+        for (WebElement product : browser.driver.findElements(products)) {
+            texts.add(product.getText());
+        }
+        return texts;
+    }
+
+    @Benchmark
+    public List<String> textsInOneCall(BrowserState browser) {
+        return BulkElements.texts(browser.driver, products);
+    }
+}
@@ -0,0 +1,63 @@
+package org.saad.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one findElement for each locator style used in Locators, Xpaths and
+ * SiblingsAndParentToChild, all on the locatorspractice login form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocatorBenchmark {
+
+    private static final Map<String, By> LOCATORS = Map.of(
+            "id", By.id("inputUsername"),
+            "name", By.name("inputPassword"),
+            "className", By.className("signInBtn"),
+            "css", By.cssSelector("input#inputUsername"),
+            "cssContains", By.cssSelector("input[type*='pass']"),
+            "cssNthChild", By.cssSelector("form input:nth-child(3)"),
+            "xpath", By.xpath("//input[@placeholder='Username']"),
+            "xpathContains", By.xpath("//button[contains(@class,'submit')]"),
+            "xpathSibling", By.xpath("//form/input[1]/following-sibling::input[1]"),
+            "xpathParent", By.xpath("//form/input[1]/parent::form/input[1]"));
+
+    @Param({"id", "name", "className", "css", "cssContains", "cssNthChild",
+            "xpath", "xpathContains", "xpathSibling", "xpathParent"})
+    public String strategy;
+
+    private By locator;
+
+    @Setup(Level.Trial)
+    public void openPage(BrowserState browser) {
+        locator = LOCATORS.get(strategy);
+        browser.driver.get(browser.page("rahulshettyacademy.com/locatorspractice/"));
+        // fail here rather than measuring NoSuchElementException
+        browser.driver.findElement(locator);
+    }
+
+    @Benchmark
+    public WebElement findElement(BrowserState browser) {
+        return browser.driver.findElement(locator);
+    }
+}
@@ -0,0 +1,96 @@
+package org.saad.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implicit vs explicit vs fluent wait (the three styles in SeleniumWaits) for an
+ * element that shows up {@code appearAfterMs} after the wait starts. With 0 the
+ * numbers are the pure overhead of each wait, with a delay they also show how
+ * much the polling interval overshoots.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WaitBenchmark {
+
+    // removes the element and adds it back after arguments[0] ms
+    private static final String SCHEDULE_SCRIPT =
+            "var old = document.getElementById('late');"
+            + "if (old) { old.remove(); }"
+            + "var add = function () {"
+            + "  var e = document.createElement('div');"
+            + "  e.id = 'late'; e.textContent = 'here';"
+            + "  document.body.appendChild(e);"
+            + "};"
+            + "if (arguments[0] === 0) { add(); } else { setTimeout(add, arguments[0]); }";
+
+    private static final By LATE = By.id("late");
+
+    @Param({"0", "250"})
+    public int appearAfterMs;
+
+    @Setup(Level.Trial)
+    public void openPage(BrowserState browser) {
+        browser.driver.get(browser.page("rahulshettyacademy.com/AutomationPractice/"));
+    }
+
+    @Benchmark
+    public WebElement implicitWait(BrowserState browser) {
+        WebDriver driver = browser.driver;
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        try {
+            schedule(driver);
+            return driver.findElement(LATE);
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+    }
+
+    @Benchmark
+    public WebElement explicitWait(BrowserState browser) {
+        WebDriver driver = browser.driver;
+        schedule(driver);
+        return new WebDriverWait(driver, Duration.ofSeconds(5))
+                .until(ExpectedConditions.visibilityOfElementLocated(LATE));
+    }
+
+    @Benchmark
+    public WebElement fluentWait(BrowserState browser) {
+        WebDriver driver = browser.driver;
+        schedule(driver);
+        return new FluentWait<>(driver)
+                .withTimeout(Duration.ofSeconds(5))
+                .pollingEvery(Duration.ofMillis(50))
+                .ignoring(NoSuchElementException.class)
+                .until(d -> d.findElement(LATE));
+    }
+
+    private void schedule(WebDriver driver) {
+        ((JavascriptExecutor) driver).executeScript(SCHEDULE_SCRIPT, appearAfterMs);
+    }
+}
@@ -3,12 +3,21 @@ package org.saad;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.Sites;
 
 public class Alerts {
     public static void main(String[] args) {
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/AutomationPractice/");
+        run(driver);
+
+        driver.quit();
+        System.exit(0);
+
+    }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/AutomationPractice/"));
 
         driver.findElement(By.id("name")).sendKeys("Saad");
         driver.findElement(By.id("alertbtn")).click();
@@ -21,9 +30,5 @@ public class Alerts {
 
         //for all -ve , cancel , no
         driver.switchTo().alert().dismiss();
-
-        driver.quit();
-        System.exit(0);
-
     }
 }
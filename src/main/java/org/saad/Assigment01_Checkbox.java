@@ -3,6 +3,9 @@ package org.saad;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.DomSnapshot;
+import org.saad.Framework.ElementCache;
+import org.saad.Framework.Sites;
 import org.testng.Assert;
 
 
@@ -10,14 +13,7 @@ public class Assigment01_Checkbox {
     public static void main(String[] args) {
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/AutomationPractice/");
-        driver.findElement(By.xpath("//input[@id='checkBoxOption1']")).click();
-        Assert.assertTrue(driver.findElement(By.xpath("//input[@id='checkBoxOption1']")).isSelected());
-        driver.findElement(By.xpath("//input[@id='checkBoxOption1']")).click();
-        Assert.assertFalse(driver.findElement(By.xpath("//input[@id='checkBoxOption1']")).isSelected());
-        //Its elements not element for size() function
-        System.out.println(driver.findElements(By.xpath("//input[@type='checkbox']")).size());
-        //driver.findElements(By.xpath("//input[@type='checkbox']")).size();
+        run(driver);
 
 
 
@@ -26,4 +22,19 @@ public class Assigment01_Checkbox {
 
 
     }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/AutomationPractice/"));
+        // same locators are used again and again on this page, resolve each only once
+        ElementCache cache = new ElementCache(driver);
+        cache.find(By.xpath("//input[@id='checkBoxOption1']")).click();
+        Assert.assertTrue(cache.find(By.xpath("//input[@id='checkBoxOption1']")).isSelected());
+        cache.find(By.xpath("//input[@id='checkBoxOption1']")).click();
+        Assert.assertFalse(cache.find(By.xpath("//input[@id='checkBoxOption1']")).isSelected());
+        //Its elements not element for size() function
+        //System.out.println(driver.findElements(By.xpath("//input[@type='checkbox']")).size());
+        // counted in the JVM from one snapshot of the page, see DomSnapshot
+        System.out.println(DomSnapshot.take(driver).count(By.xpath("//input[@type='checkbox']")));
+        //driver.findElements(By.xpath("//input[@type='checkbox']")).size();
+    }
 }
@@ -1,55 +1,85 @@
 package org.saad;
 
-import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.support.ui.Select;
+import org.saad.Framework.Config;
+import org.saad.Framework.DataDrivenRun;
+import org.saad.Framework.DriverFactory;
+import org.saad.Framework.PageReadiness;
+import org.saad.Framework.Row;
+import org.saad.Pages.AngularPracticePage;
+import org.testng.Assert;
+
+import java.nio.file.Path;
+import java.util.Map;
 
 public class Assigment02 {
 
     public static void main(String[] args) {
 
-        System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
-        WebDriver driver= new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/angularpractice/");
-
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+        // -Dddt.file=src/main/resources/data/angularpractice.csv submits every row of the file instead
+        // of the one record below, on -Dshards browsers, resuming where an earlier run stopped
+        String dataFile = Config.get("ddt.file", "");
+        if (!dataFile.isEmpty()) {
+            DataDrivenRun ddt = new DataDrivenRun(Path.of(dataFile), Config.getInt("shards", 2), Path.of("target", "ddt"));
+            if (Config.getBoolean("ddt.restart", false)) {
+                ddt.reset();
+            }
+            DataDrivenRun.Result result = ddt.run(DriverFactory::create, Assigment02::submit);
+            System.out.print(result);
+            // a failed row is listed in the .failures file of its shard
+            System.exit(result.failed() > 0 ? 1 : 0);
         }
 
-        driver.findElement(By.xpath("//input[@minlength='2']")).sendKeys("Saad");
-        driver.findElement(By.xpath("//input[@name='email']")).sendKeys("saadnust71@gmail.com");
-        driver.findElement(By.xpath("//input[@id='exampleInputPassword1']")).sendKeys("Admin123");
-        driver.findElement(By.xpath("//input[@id='exampleCheck1']")).click();
-
-        // capture select object as web element then create a select object pass web element
-        WebElement selectDropdown= driver.findElement(By.id("exampleFormControlSelect1"));
+        System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
+        WebDriver driver= new ChromeDriver();
+        run(driver);
 
-        Select obj= new Select(selectDropdown);
-        obj.selectByVisibleText("Male");
+        driver.quit();
+        System.exit(0);
 
-        driver.findElement(By.id("inlineRadio1")).click();
-        driver.findElement(By.name("bday")).sendKeys("12011999");
 
+    }
 
-        driver.findElement(By.xpath("//input[@value='Submit']")).click();
+    public static void run(WebDriver driver) {
+        submit(driver, Row.of(Map.of(
+                "name", "Saad",
+                "email", "saadnust71@gmail.com",
+                "password", "Admin123",
+                "iceCream", "true",
+                "gender", "Male",
+                "employment", "student",
+                // a date input holds yyyy-MM-dd whatever format it shows
+                "birthday", "1999-12-01")));
+    }
 
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+    // one record of the form, the columns of src/main/resources/data/angularpractice.csv
+    public static void submit(WebDriver driver, Row row) {
+        // generated page object (see Pages/AngularPractice)
+        AngularPracticePage page = new AngularPracticePage(driver).open();
+
+        // angular app, waits for Angular to report stable
+        PageReadiness.await(driver, "angularpractice load");
+
+        //driver.findElement(By.xpath("//input[@minlength='2']")).sendKeys("Saad");
+        //driver.findElement(By.xpath("//input[@name='email']")).sendKeys("saadnust71@gmail.com");
+        //driver.findElement(By.xpath("//input[@id='exampleInputPassword1']")).sendKeys("Admin123");
+        //driver.findElement(By.xpath("//input[@id='exampleCheck1']")).click();
+        //new Select(driver.findElement(By.id("exampleFormControlSelect1"))).selectByVisibleText("Male");
+        //driver.findElement(By.id("inlineRadio1")).click();
+        //driver.findElement(By.name("bday")).sendKeys("12011999");
+        // the whole form in one call
+        boolean student = "student".equalsIgnoreCase(row.get("employment"));
+        page.fill(row.get("name"), row.get("email"), row.get("password"), row.getBoolean("iceCream"),
+                row.get("gender"), student, !student, row.get("birthday"));
+
+        page.submit().click();
+
+        PageReadiness.await(driver, "angularpractice submit");
         //.alert.alert-success.alert-dismissible
         //div[@class='alert alert-success alert-dismissible']
 
-        System.out.println(driver.findElement(By.xpath("//div[@class='alert alert-success alert-dismissible']")).getText());
-
-        driver.quit();
-        System.exit(0);
-
-
+        System.out.println(page.successMessage().getText());
+        Assert.assertTrue(page.successMessage().getText().contains("Success"), "Form not accepted for " + row);
     }
 }
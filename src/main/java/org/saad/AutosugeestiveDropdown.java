@@ -2,32 +2,28 @@ package org.saad;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
-
-import java.util.List;
+import org.saad.Framework.Options;
+import org.saad.Framework.PageReadiness;
+import org.saad.Framework.Sites;
 
 public class AutosugeestiveDropdown {
 
     public static void main(String[] args) {
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-
-        driver.get("https://rahulshettyacademy.com/dropdownsPractise/");
-        driver.findElement(By.id("autosuggest")).sendKeys("ind");
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-        List<WebElement> options= driver.findElements(By.xpath("//li[@class='ui-menu-item'] //a"));
-        for(WebElement option: options ){
-            if(option.getText().equalsIgnoreCase("India")){
-                option.click();
-                break;
-            }
-        }
+        run(driver);
 
         System.exit(0);
     }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/dropdownsPractise/"));
+        driver.findElement(By.id("autosuggest")).sendKeys("ind");
+        // suggestions come back asynchronously, continue as soon as they are rendered
+        PageReadiness.awaitElement(driver, By.xpath("//li[@class='ui-menu-item'] //a"));
+        // matching and click happen in the browser, one call however long the list is;
+        // no India among the suggestions clicks nothing and the flow goes on, as the loop it replaces did
+        Options.tryPick(driver, By.xpath("//li[@class='ui-menu-item'] //a"), "India", Options.Match.IGNORE_CASE);
+    }
 }
@@ -3,6 +3,8 @@ package org.saad;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.saad.Framework.DriverFactory;
+import org.saad.Framework.Sites;
 
 import java.lang.*;
 
@@ -33,22 +35,29 @@ public class Basics {
 
 
         //For Windows OS Path
-        System.setProperty("webdriver.chrome.driver", "C:\\chromedriver-win64\\chromedriver.exe");
+        //System.setProperty("webdriver.chrome.driver", "C:\\chromedriver-win64\\chromedriver.exe");
 
 
-        WebDriver driver = new ChromeDriver();
+        //WebDriver driver = new ChromeDriver();
 
         //For FireFox
         //System.setProperty("webdriver.gecko.driver","/home/saad/Downloads/geckodriver-v0.33.0-linux64/geckodriver");
         //WebDriver driver =new FirefoxDriver();
 
+        // -Dbrowser=chrome (default), firefox or edge, the driver paths above still work as -Dwebdriver.chrome.driver=...
+        WebDriver driver = DriverFactory.create();
 
-        driver.get("https://rahulshettyacademy.com/");
-        System.out.println(driver.getTitle());
-        System.out.println(driver.getCurrentUrl());
+
+        run(driver);
         //Only close first url which open when browser initiate
         driver.close();
         //close all url in browser ad close program
         driver.quit();
     }
-}
\ No newline at end of file
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/"));
+        System.out.println(driver.getTitle());
+        System.out.println(driver.getCurrentUrl());
+    }
+}
@@ -2,24 +2,31 @@ package org.saad;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.Sites;
 
 public class BrowserNavigation {
     public static void main(String[] args) {
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
+        run(driver);
+        driver.close();
+        System.exit(0);
+
+
+    }
+
+    public static void run(WebDriver driver) {
         driver.manage().window().maximize();
-        driver.get("https://google.com/");
+        driver.get(Sites.resolve("https://google.com/"));
         // This get method has inbuilt wait means it can wait until
         // all document of that page loaded
-        driver.navigate().to("https://youtube.com"); //it does not have any mechanism it hit an perform next instruction
+        driver.navigate().to(Sites.resolve("https://youtube.com")); //it does not have any mechanism it hit an perform next instruction
+        // (both follow the session's page load strategy, Navigation.to lets every call choose
+        // normal/eager/none and what "ready" means for that page)
         System.out.println(driver.getTitle());
         driver.navigate().back();
         System.out.println(driver.getTitle());
         driver.navigate().forward();
         System.out.println(driver.getTitle());
-        driver.close();
-        System.exit(0);
-
-
     }
 }
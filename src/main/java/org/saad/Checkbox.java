@@ -3,24 +3,34 @@ package org.saad;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.DomSnapshot;
+import org.saad.Framework.Sites;
 import org.testng.Assert;
 
 public class Checkbox {
     public static void main(String[] args) {
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/dropdownsPractise/");
-        //input[id*='friendsandfamily']
-        System.out.println(driver.findElement(By.xpath("//input[contains(@id,'friendsandfamily')]")).isSelected());
-        Assert.assertFalse(driver.findElement(By.xpath("//input[contains(@id,'friendsandfamily')]")).isSelected());
-        driver.findElement(By.xpath("//input[contains(@id,'friendsandfamily')]")).click();
-        //svg-img
-        System.out.println(driver.findElement(By.xpath("//input[contains(@id,'friendsandfamily')]")).isSelected());
-        Assert.assertTrue(driver.findElement(By.xpath("//input[contains(@id,'friendsandfamily')]")).isSelected());
-        System.out.println(driver.findElements(By.xpath("//input[@type='checkbox']")).size());
-        Assert.assertEquals(driver.findElements(By.xpath("//input[@type='checkbox']")).size(),6);
+        run(driver);
         driver.quit();
         System.exit(0);
 
  ;;   }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/dropdownsPractise/"));
+        //input[id*='friendsandfamily']
+        By friendsAndFamily = By.xpath("//input[contains(@id,'friendsandfamily')]");
+        // one snapshot of the page answers every check below without going back to the browser
+        DomSnapshot before = DomSnapshot.take(driver);
+        System.out.println(before.isChecked(friendsAndFamily));
+        Assert.assertFalse(before.isChecked(friendsAndFamily));
+        driver.findElement(friendsAndFamily).click();
+        //svg-img
+        DomSnapshot after = DomSnapshot.take(driver);
+        System.out.println(after.isChecked(friendsAndFamily));
+        Assert.assertTrue(after.isChecked(friendsAndFamily));
+        System.out.println(after.count(By.xpath("//input[@type='checkbox']")));
+        Assert.assertEquals(after.count(By.xpath("//input[@type='checkbox']")),6);
+    }
 }
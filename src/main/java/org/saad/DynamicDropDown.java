@@ -1,8 +1,12 @@
 package org.saad;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.Navigation;
+import org.saad.Framework.PageReadiness;
+import org.saad.Framework.Sites;
 
 public class DynamicDropDown {
     public static void main(String[] args) {
@@ -10,38 +14,39 @@ public class DynamicDropDown {
 
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-        driver.get("https://www.spicejet.com/");
+        run(driver);
+
+        driver.quit();
+        System.exit(0);
+
+    }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://www.spicejet.com/"));
+        // the second page loads in a background tab while we play with the spicejet dropdowns
+        Navigation.Prefetch dropdownsPractise = Navigation.prefetch(driver, Sites.resolve("https://rahulshettyacademy.com/dropdownsPractise/"));
 
         driver.findElement(By.xpath("//div[text()='From']")).click();
         driver.findElement(By.xpath("//div[text()='International']")).click();
         driver.findElement(By.xpath("//div[text()='Dammam Airport']")).click();
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+        PageReadiness.await(driver, "spicejet from city");
         //System.out.println(driver.findElement(By.xpath("//div[text()='International']")).getText());
         driver.findElement(By.xpath("//div[text()='International']")).click();
         driver.findElement(By.xpath("//div[text()='King Abdulaziz International Airport']")).click();
 
 
 
-        driver.navigate().to("https://rahulshettyacademy.com/dropdownsPractise/");
+        //driver.navigate().to(Sites.resolve("https://rahulshettyacademy.com/dropdownsPractise/"));
+        // we only need the origin input, not every image of the page
+        dropdownsPractise.open(PageLoadStrategy.EAGER,
+                Navigation.interactable(By.xpath("//input[@id='ctl00_mainContent_ddl_originStation1_CTXT']")));
 
         driver.findElement(By.xpath("//input[@id='ctl00_mainContent_ddl_originStation1_CTXT']")).click();
         driver.findElement(By.xpath("//a[@text='Goa (GOI)']")).click();
         //(//a[@value='CMB'])[2]
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+        PageReadiness.await(driver, "dropdownsPractise origin");
         System.out.println(driver.findElement(By.xpath("(//a[@text='Colombo (CMB)'])[2]")).getText());
         driver.findElement(By.xpath("(//a[@text='Colombo (CMB)'])[2]")).click();
-
-        driver.quit();
-        System.exit(0);
-
     }
 }
@@ -2,9 +2,11 @@ package org.saad;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.BulkElements;
+import org.saad.Framework.Sites;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /** Amazon Interview Question: Amazon marketplace has new products add every day
@@ -15,25 +17,33 @@ public class EcommerceAddingtoCart {
     public static void main(String[] args) {
         System.setProperty("webdriver.chrome.driver", "C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver = new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/seleniumPractise/#/");
+        run(driver);
+        driver.quit();
+        System.exit(0);
+    }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/seleniumPractise/#/"));
         String[] productNames = {"Brocolli","Cucumber","Beetroot"};
         int count=0;
-        List<WebElement> products = driver.findElements(By.cssSelector("h4.product-name"));
+        // one call reads every product name, no getText() round trip per card
+        List<String> products = BulkElements.texts(driver, By.cssSelector("h4.product-name"));
+        List<Integer> toAdd = new ArrayList<>();
         for (int i = 0; i < products.size(); i++) {
-            String name = products.get(i).getText();
+            String name = products.get(i);
             if(count==productNames.length) break;
             for (String productName : productNames) {
                 if (name.contains(productName)) {
                     //System.out.println(productName);
                     //System.out.println(i);
-                    driver.findElements(By.xpath("//div[@class='product-action']/button")).get(i).click();
+                    toAdd.add(i);
                     count+=1;
                     break;
                 }
 
             }
         }
-        driver.quit();
-        System.exit(0);
+        // and one call clicks all the matching add to cart buttons
+        BulkElements.clickAll(driver, By.xpath("//div[@class='product-action']/button"), toAdd);
     }
 }
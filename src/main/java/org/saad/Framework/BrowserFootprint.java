@@ -0,0 +1,82 @@
+package org.saad.Framework;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * What one session of each browser costs the host: peak RSS in MB and CPU in
+ * cores, as measured by {@link ResourceMonitor} in earlier matrix runs. Kept like
+ * {@link DurationHistory}, as a moving average in
+ * .history/browser-footprints.properties (-Dhistory.dir). A browser that was
+ * never measured starts from a rough default, -Dmatrix.rss.mb.&lt;browser&gt; and
+ * -Dmatrix.cpu.&lt;browser&gt; override it.
+ */
+public final class BrowserFootprint {
+
+    private static final Map<String, Long> DEFAULT_RSS_MB = Map.of(
+            "chrome", 500L, "edge", 500L, "firefox", 600L, "htmlunit", 150L);
+    private static final Map<String, Double> DEFAULT_CPU_CORES = Map.of(
+            "chrome", 1.0, "edge", 1.0, "firefox", 1.0, "htmlunit", 0.5);
+
+    private final Path file;
+    private final Map<String, Long> rssMb = new TreeMap<>();
+    private final Map<String, Double> cpuCores = new TreeMap<>();
+
+    private BrowserFootprint(Path file) {
+        this.file = file;
+    }
+
+    public static BrowserFootprint load() {
+        return load(HistoryFile.of("browser-footprints.properties"));
+    }
+
+    public static BrowserFootprint load(Path file) {
+        BrowserFootprint footprint = new BrowserFootprint(file);
+        Properties properties = HistoryFile.read(file);
+        for (String key : properties.stringPropertyNames()) {
+            if (key.endsWith(".rss.mb")) {
+                footprint.rssMb.put(key.substring(0, key.length() - ".rss.mb".length()), Long.parseLong(properties.getProperty(key)));
+            } else if (key.endsWith(".cpu.cores")) {
+                footprint.cpuCores.put(key.substring(0, key.length() - ".cpu.cores".length()), Double.parseDouble(properties.getProperty(key)));
+            }
+        }
+        return footprint;
+    }
+
+    public synchronized long rssMb(String browser) {
+        String configured = Config.get("matrix.rss.mb." + browser, "");
+        if (!configured.isEmpty()) {
+            return Long.parseLong(configured);
+        }
+        return rssMb.getOrDefault(browser, DEFAULT_RSS_MB.getOrDefault(browser, 500L));
+    }
+
+    public synchronized double cpuCores(String browser) {
+        String configured = Config.get("matrix.cpu." + browser, "");
+        if (!configured.isEmpty()) {
+            return Double.parseDouble(configured);
+        }
+        return cpuCores.getOrDefault(browser, DEFAULT_CPU_CORES.getOrDefault(browser, 1.0));
+    }
+
+    /** Folds one run's peak per session into the estimate, a 0 means it was not measured. */
+    public synchronized void record(String browser, long peakRssMb, double peakCpuCores) {
+        if (peakRssMb > 0) {
+            Long known = rssMb.get(browser);
+            rssMb.put(browser, known == null ? peakRssMb : Math.round(DurationHistory.ALPHA * peakRssMb + (1 - DurationHistory.ALPHA) * known));
+        }
+        if (peakCpuCores > 0) {
+            Double known = cpuCores.get(browser);
+            cpuCores.put(browser, known == null ? peakCpuCores : DurationHistory.ALPHA * peakCpuCores + (1 - DurationHistory.ALPHA) * known);
+        }
+    }
+
+    public synchronized void save() {
+        Properties properties = new Properties();
+        rssMb.forEach((browser, mb) -> properties.setProperty(browser + ".rss.mb", String.valueOf(mb)));
+        cpuCores.forEach((browser, cores) -> properties.setProperty(browser + ".cpu.cores", String.valueOf(Math.round(cores * 100) / 100.0)));
+        HistoryFile.write(file, properties, "peak RSS and CPU of one browser session, moving average over matrix runs");
+    }
+}
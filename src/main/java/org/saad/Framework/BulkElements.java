@@ -0,0 +1,121 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads or acts on every element of a findElements result in one script call
+ * instead of one WebDriver call per element.
+ *
+ * <pre>
+ * List&lt;String&gt; names = BulkElements.texts(driver, By.cssSelector("h4.product-name"));
+ * BulkElements.clickAll(driver, By.xpath("//div[@class='product-action']/button"), List.of(1, 4, 7));
+ * </pre>
+ *
+ * Clicks are done with element.click() inside the page, which fires the click
+ * handlers but does not check that another element covers the target the way a
+ * WebDriver click does.
+ */
+public final class BulkElements {
+
+    /** What one element looked like when it was read. */
+    public static final class ElementData {
+        public final int index;
+        public final WebElement element;
+        public final String tag;
+        public final String text;
+        public final boolean displayed;
+        public final boolean enabled;
+        public final boolean selected;
+        public final Map<String, String> attributes;
+
+        ElementData(int index, Map<String, Object> raw) {
+            this.index = index;
+            this.element = (WebElement) raw.get("element");
+            this.tag = (String) raw.get("tag");
+            this.text = (String) raw.get("text");
+            this.displayed = Boolean.TRUE.equals(raw.get("displayed"));
+            this.enabled = Boolean.TRUE.equals(raw.get("enabled"));
+            this.selected = Boolean.TRUE.equals(raw.get("selected"));
+            @SuppressWarnings("unchecked")
+            Map<String, String> attributes = (Map<String, String>) raw.get("attributes");
+            this.attributes = attributes == null ? Map.of() : attributes;
+        }
+
+        public String attribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public String toString() {
+            return tag + "[" + index + "] '" + text + "'";
+        }
+    }
+
+    private static final String READ_SCRIPT = JsLocator.FIND_FUNCTION
+            + "var names = arguments[2];"
+            + "return __saadFind(arguments[0], arguments[1]).map(function (e) {"
+            + "  var attributes = {};"
+            + "  for (var i = 0; i < names.length; i++) { attributes[names[i]] = e.getAttribute(names[i]); }"
+            + "  return {element: e, tag: e.tagName.toLowerCase(), text: (e.innerText || '').trim(),"
+            + "          displayed: e.getClientRects().length > 0, enabled: !e.disabled,"
+            + "          selected: !!(e.checked || e.selected), attributes: attributes};"
+            + "});";
+
+    private static final String TEXT_SCRIPT = JsLocator.FIND_FUNCTION
+            + "return __saadFind(arguments[0], arguments[1]).map(function (e) { return (e.innerText || '').trim(); });";
+
+    private static final String CLICK_SCRIPT = JsLocator.FIND_FUNCTION
+            + "var found = __saadFind(arguments[0], arguments[1]);"
+            + "var indexes = arguments[2];"
+            + "var clicked = 0;"
+            + "for (var i = 0; i < indexes.length; i++) {"
+            + "  var e = found[indexes[i]];"
+            + "  if (e) { e.click(); clicked++; }"
+            + "}"
+            + "return clicked;";
+
+    private BulkElements() {
+    }
+
+    /** Text, state and the given attributes of every element matching {@code locator}, in one call. */
+    @SuppressWarnings("unchecked")
+    public static List<ElementData> read(WebDriver driver, By locator, String... attributes) {
+        String[] using = JsLocator.of(locator);
+        List<Map<String, Object>> raw = (List<Map<String, Object>>) js(driver)
+                .executeScript(READ_SCRIPT, using[0], using[1], List.of(attributes));
+        List<ElementData> data = new ArrayList<>(raw.size());
+        for (int i = 0; i < raw.size(); i++) {
+            data.add(new ElementData(i, raw.get(i)));
+        }
+        return data;
+    }
+
+    /** The visible text of every element matching {@code locator}, in one call. */
+    @SuppressWarnings("unchecked")
+    public static List<String> texts(WebDriver driver, By locator) {
+        String[] using = JsLocator.of(locator);
+        return (List<String>) js(driver).executeScript(TEXT_SCRIPT, using[0], using[1]);
+    }
+
+    /** Clicks the elements at {@code indexes} of the {@code locator} result in one call, returns how many were clicked. */
+    public static int clickAll(WebDriver driver, By locator, Collection<Integer> indexes) {
+        if (indexes.isEmpty()) {
+            return 0;
+        }
+        String[] using = JsLocator.of(locator);
+        Object clicked = js(driver).executeScript(CLICK_SCRIPT, using[0], using[1], new ArrayList<>(indexes));
+        return ((Number) clicked).intValue();
+    }
+
+    private static JavascriptExecutor js(WebDriver driver) {
+        return (JavascriptExecutor) driver;
+    }
+}
@@ -0,0 +1,171 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Element handed out by {@link ElementCache}. Every call goes straight to the
+ * real element, on a stale element it asks the cache to resolve the locator
+ * again and retries the call once.
+ */
+class CachedElement implements WebElement, WrapsElement {
+
+    private final ElementCache cache;
+    private final By locator;
+    private WebElement element;
+
+    CachedElement(ElementCache cache, By locator, WebElement element) {
+        this.cache = cache;
+        this.locator = locator;
+        this.element = element;
+    }
+
+    private <T> T call(Function<WebElement, T> command) {
+        try {
+            return command.apply(element);
+        } catch (StaleElementReferenceException e) {
+            element = cache.resolveAgain(locator);
+            cache.remember(locator, this);
+            return command.apply(element);
+        }
+    }
+
+    private void run(Consumer<WebElement> command) {
+        call(e -> {
+            command.accept(e);
+            return null;
+        });
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return element;
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(e -> e.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(e -> e.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(e -> e.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(e -> e.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(e -> e.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(e -> e.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(e -> e.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return call(e -> e.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return element.toString();
+    }
+}
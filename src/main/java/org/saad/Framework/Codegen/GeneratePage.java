@@ -0,0 +1,22 @@
+package org.saad.Framework.Codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface that describes a page, {@link PageObjectProcessor} writes the
+ * page object class for it while compiling. Every abstract method of the interface
+ * returns a WebElement and carries a {@link Locate}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GeneratePage {
+
+    /** Simple name of the generated class, it is written into the package of the interface. */
+    String name();
+
+    /** Live URL of the page, open() resolves it through Sites. */
+    String url() default "";
+}
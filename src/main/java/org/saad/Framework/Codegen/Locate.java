@@ -0,0 +1,40 @@
+package org.saad.Framework.Codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Locator of one element of a {@link GeneratePage} interface, like @FindBy but read at
+ * compile time. Exactly one of the locator attributes must be set.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Locate {
+
+    String id() default "";
+
+    String name() default "";
+
+    String className() default "";
+
+    String css() default "";
+
+    String xpath() default "";
+
+    String tagName() default "";
+
+    String linkText() default "";
+
+    /** Whether the element takes part in the generated fill(...) method and with which parameter type. */
+    Fill fill() default Fill.NONE;
+
+    enum Fill {
+        NONE,
+        // String parameter: typed into inputs/textareas, matched against option text or value for selects
+        TEXT,
+        // boolean parameter: checked state of a checkbox or radio button
+        CHECK
+    }
+}
@@ -0,0 +1,264 @@
+package org.saad.Framework.Codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Writes a page object class for every {@link GeneratePage} interface, so pages get
+ * the PageFactory convenience without its reflection and proxies:
+ *
+ * - every {@link Locate} becomes a {@code public static final By} constant, built once
+ *   when the class loads,
+ * - every element accessor resolves its locator on first use and then keeps the
+ *   element (an ElementCache handle, so a stale element is found again once),
+ * - the fields marked with a {@link Locate.Fill} get one fill(...) method that sets
+ *   them all in a single script call through FormFill,
+ * - open() navigates to the url of the page.
+ *
+ * Runs in the default-compile step of the pom, it is compiled itself in the step before.
+ */
+@SupportedAnnotationTypes("org.saad.Framework.Codegen.GeneratePage")
+public class PageObjectProcessor extends AbstractProcessor {
+
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+
+    private static final class Field {
+        String method;
+        String constant;
+        String by;
+        Locate.Fill fill;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(GeneratePage.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@GeneratePage belongs on an interface");
+                continue;
+            }
+            TypeElement spec = (TypeElement) element;
+            List<Field> fields = fields(spec);
+            if (fields != null) {
+                write(spec, spec.getAnnotation(GeneratePage.class), fields);
+            }
+        }
+        return true;
+    }
+
+    private List<Field> fields(TypeElement spec) {
+        List<Field> fields = new ArrayList<>();
+        boolean valid = true;
+        for (Element member : spec.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.METHOD || !member.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            Locate locate = method.getAnnotation(Locate.class);
+            if (locate == null) {
+                error(method, "page methods need a @Locate");
+                valid = false;
+                continue;
+            }
+            if (!method.getParameters().isEmpty() || !WEB_ELEMENT.equals(method.getReturnType().toString())) {
+                error(method, "@Locate methods take no parameters and return WebElement");
+                valid = false;
+                continue;
+            }
+            String by = by(locate);
+            if (by == null) {
+                error(method, "@Locate needs exactly one of id, name, className, css, xpath, tagName, linkText");
+                valid = false;
+                continue;
+            }
+            Field field = new Field();
+            field.method = method.getSimpleName().toString();
+            field.constant = constant(field.method);
+            field.by = by;
+            field.fill = locate.fill();
+            fields.add(field);
+        }
+        return valid ? fields : null;
+    }
+
+    private static String by(Locate locate) {
+        String[][] candidates = {
+                {"id", locate.id()},
+                {"name", locate.name()},
+                {"className", locate.className()},
+                {"cssSelector", locate.css()},
+                {"xpath", locate.xpath()},
+                {"tagName", locate.tagName()},
+                {"linkText", locate.linkText()},
+        };
+        String by = null;
+        for (String[] candidate : candidates) {
+            if (candidate[1].isEmpty()) {
+                continue;
+            }
+            if (by != null) {
+                return null;
+            }
+            by = "By." + candidate[0] + "(" + literal(candidate[1]) + ")";
+        }
+        return by;
+    }
+
+    private void write(TypeElement spec, GeneratePage page, List<Field> fields) {
+        String pkg = processingEnv.getElementUtils().getPackageOf(spec).getQualifiedName().toString();
+        String name = page.name();
+        List<Field> fillable = new ArrayList<>();
+        for (Field field : fields) {
+            if (field.fill != Locate.Fill.NONE) {
+                fillable.add(field);
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(pkg).append(";\n\n");
+        out.append("import org.openqa.selenium.By;\n");
+        out.append("import org.openqa.selenium.WebDriver;\n");
+        out.append("import org.openqa.selenium.WebElement;\n");
+        out.append("import org.saad.Framework.ElementCache;\n");
+        if (!fillable.isEmpty()) {
+            out.append("import org.saad.Framework.FormFill;\n");
+            out.append("import org.saad.Framework.JsLocator;\n");
+        }
+        out.append("import org.saad.Framework.Sites;\n\n");
+        out.append("import javax.annotation.processing.Generated;\n\n");
+        out.append("/** Page object for {@link ").append(spec.getSimpleName()).append("}, generated while compiling, do not edit. */\n");
+        out.append("@Generated(\"").append(PageObjectProcessor.class.getName()).append("\")\n");
+        out.append("public final class ").append(name).append(" implements ").append(spec.getSimpleName()).append(" {\n\n");
+        out.append("    public static final String URL = ").append(literal(page.url())).append(";\n\n");
+        for (Field field : fields) {
+            out.append("    public static final By ").append(field.constant).append(" = ").append(field.by).append(";\n");
+        }
+        if (!fillable.isEmpty()) {
+            out.append("\n    private static final String[][] FILL_LOCATORS = {\n");
+            for (Field field : fillable) {
+                out.append("            JsLocator.of(").append(field.constant).append("),\n");
+            }
+            out.append("    };\n");
+        }
+        out.append("\n    private final WebDriver driver;\n");
+        out.append("    private final ElementCache cache;\n");
+        for (Field field : fields) {
+            out.append("    private WebElement ").append(field.method).append(";\n");
+        }
+
+        out.append("\n    public ").append(name).append("(WebDriver driver) {\n");
+        out.append("        this.driver = driver;\n");
+        out.append("        this.cache = new ElementCache(driver);\n");
+        out.append("    }\n");
+
+        out.append("\n    public WebDriver driver() {\n");
+        out.append("        return driver;\n");
+        out.append("    }\n");
+
+        out.append("\n    public ").append(name).append(" open() {\n");
+        out.append("        forget();\n");
+        out.append("        driver.get(Sites.resolve(URL));\n");
+        out.append("        return this;\n");
+        out.append("    }\n");
+
+        out.append("\n    /** Drops every element handle, for when the page was replaced without open(). */\n");
+        out.append("    public void forget() {\n");
+        out.append("        cache.invalidate();\n");
+        for (Field field : fields) {
+            out.append("        ").append(field.method).append(" = null;\n");
+        }
+        out.append("    }\n");
+
+        for (Field field : fields) {
+            out.append("\n    @Override\n");
+            out.append("    public WebElement ").append(field.method).append("() {\n");
+            out.append("        if (").append(field.method).append(" == null) {\n");
+            out.append("            ").append(field.method).append(" = cache.find(").append(field.constant).append(");\n");
+            out.append("        }\n");
+            out.append("        return ").append(field.method).append(";\n");
+            out.append("    }\n");
+        }
+
+        if (!fillable.isEmpty()) {
+            out.append("\n    /** Sets all form fields in one script call, a null value (or Boolean) leaves that field as it is. */\n");
+            out.append("    public ").append(name).append(" fill(");
+            for (int i = 0; i < fillable.size(); i++) {
+                Field field = fillable.get(i);
+                out.append(i == 0 ? "" : ", ").append(field.fill == Locate.Fill.CHECK ? "Boolean " : "String ").append(field.method);
+            }
+            out.append(") {\n");
+            out.append("        FormFill.fill(driver, FILL_LOCATORS");
+            for (Field field : fillable) {
+                out.append(", ").append(field.method);
+            }
+            out.append(");\n");
+            out.append("        return this;\n");
+            out.append("    }\n");
+        }
+        out.append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(pkg + "." + name, spec).openWriter()) {
+            writer.write(out.toString());
+        } catch (IOException e) {
+            error(spec, "cannot write " + name + ": " + e.getMessage());
+        }
+    }
+
+    // usernameField -> USERNAME_FIELD
+    private static String constant(String method) {
+        // ROOT, a Turkish default locale would turn the i of "username" into a dotted capital
+        return method.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    // a Java string literal, a line break or other control character in an xpath or URL must not end up raw in the source
+    private static String literal(String value) {
+        StringBuilder out = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                case '\\':
+                    out.append('\\').append(c);
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < ' ' || c == 0x7f) {
+                        // octal, a unicode escape would be turned back into the raw character before javac parses the literal
+                        out.append(String.format("\\%03o", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
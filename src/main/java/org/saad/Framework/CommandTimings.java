@@ -0,0 +1,224 @@
+package org.saad.Framework;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Times every WebDriver command of a wrapped driver and keeps a latency
+ * histogram per command ("WebDriver.get", "WebElement.click", "Alert.getText")
+ * and per locator ("find By.id: alertbtn"), plus a round trip count per scenario.
+ *
+ * <pre>
+ * WebDriver timed = CommandTimings.get().wrap(driver, "Alerts");
+ * Alerts.run(timed);
+ * System.out.print(CommandTimings.get().summary());
+ * CommandTimings.get().export(Path.of("target/command-timings"));
+ * </pre>
+ *
+ * Recording is a nanoTime pair and a lock-free histogram update, cheap enough to
+ * leave on (-Dinstrument=true in the runner).
+ */
+public final class CommandTimings implements WebDriverListener {
+
+    private static final CommandTimings INSTANCE = new CommandTimings();
+
+    // up to one hour in microseconds with 3 significant digits
+    private static final long HIGHEST_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    // calls that only hand out a local helper object and never reach the browser
+    private static final Set<String> LOCAL_CALLS = Set.of("switchTo", "manage", "navigate", "timeouts", "window", "logs");
+
+    private final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> roundTrips = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<String> scenario = ThreadLocal.withInitial(() -> "unnamed");
+    private volatile long startedMillis = System.currentTimeMillis();
+
+    private CommandTimings() {
+    }
+
+    public static CommandTimings get() {
+        return INSTANCE;
+    }
+
+    /** Returns a driver that reports every command to this listener, counted under {@code scenarioName}. */
+    public WebDriver wrap(WebDriver driver, String scenarioName) {
+        scenario.set(scenarioName);
+        return new EventFiringDecorator<>(this).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(target, method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(target, method, args);
+        errors.computeIfAbsent(command(target, method), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private void record(Object target, Method method, Object[] args) {
+        Deque<Long> stack = starts.get();
+        if (stack.isEmpty()) {
+            return;
+        }
+        long micros = (System.nanoTime() - stack.pop()) / 1_000;
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        String command = command(target, method);
+        histogram(command).recordValue(Math.min(micros, HIGHEST_MICROS));
+        if (args != null && args.length == 1 && args[0] instanceof By) {
+            histogram("find " + args[0]).recordValue(Math.min(micros, HIGHEST_MICROS));
+        }
+        roundTrips.computeIfAbsent(scenario.get(), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private Histogram histogram(String key) {
+        return histograms.computeIfAbsent(key, k -> new ConcurrentHistogram(HIGHEST_MICROS, 3));
+    }
+
+    private static String command(Object target, Method method) {
+        String type;
+        if (target instanceof WebElement) {
+            type = "WebElement";
+        } else if (target instanceof WebDriver) {
+            type = "WebDriver";
+        } else if (target instanceof Alert) {
+            type = "Alert";
+        } else if (target instanceof WebDriver.TargetLocator) {
+            type = "SwitchTo";
+        } else if (target instanceof WebDriver.Navigation) {
+            type = "Navigation";
+        } else if (target instanceof WebDriver.Timeouts) {
+            type = "Timeouts";
+        } else if (target instanceof WebDriver.Window) {
+            type = "Window";
+        } else if (target instanceof WebDriver.Options) {
+            type = "Options";
+        } else {
+            type = target.getClass().getSimpleName();
+        }
+        return type + "." + method.getName();
+    }
+
+    public long roundTrips(String scenarioName) {
+        AtomicLong count = roundTrips.get(scenarioName);
+        return count == null ? 0 : count.get();
+    }
+
+    public void reset() {
+        histograms.clear();
+        errors.clear();
+        roundTrips.clear();
+        startedMillis = System.currentTimeMillis();
+    }
+
+    public String summary() {
+        StringBuilder out = new StringBuilder(String.format("%-60s %7s %9s %9s %9s %9s %6s%n",
+                "Command", "Count", "p50(ms)", "p90(ms)", "p99(ms)", "Max(ms)", "Errors"));
+        for (Map.Entry<String, Histogram> e : new TreeMap<>(histograms).entrySet()) {
+            Histogram h = e.getValue().copy();
+            AtomicLong failed = errors.get(e.getKey());
+            out.append(String.format("%-60s %7d %9.2f %9.2f %9.2f %9.2f %6d%n", e.getKey(), h.getTotalCount(),
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0, h.getMaxValue() / 1000.0,
+                    failed == null ? 0 : failed.get()));
+        }
+        out.append("Round trips per scenario: ").append(new TreeMap<>(roundTrips)).append(System.lineSeparator());
+        return out.toString();
+    }
+
+    /** Prints {@link #summary()} every {@code period} until the JVM exits. */
+    public void startLiveSummary(Duration period, PrintStream out) {
+        ScheduledExecutorService printer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "command-timings");
+            thread.setDaemon(true);
+            return thread;
+        });
+        printer.scheduleAtFixedRate(() -> out.print(summary()), period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes {@code <base>.json} with percentiles per command and round trips per
+     * scenario, and {@code <base>.hlog} with the full histograms (one tagged
+     * interval per command, readable with HdrHistogram's HistogramLogProcessor).
+     */
+    public void export(Path base) throws IOException {
+        if (base.getParent() != null) {
+            Files.createDirectories(base.getParent());
+        }
+        Map<String, Object> commands = new LinkedHashMap<>();
+        for (Map.Entry<String, Histogram> e : new TreeMap<>(histograms).entrySet()) {
+            Histogram h = e.getValue().copy();
+            AtomicLong failed = errors.get(e.getKey());
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", h.getTotalCount());
+            stats.put("errors", failed == null ? 0 : failed.get());
+            stats.put("meanMicros", h.getMean());
+            stats.put("p50Micros", h.getValueAtPercentile(50));
+            stats.put("p90Micros", h.getValueAtPercentile(90));
+            stats.put("p99Micros", h.getValueAtPercentile(99));
+            stats.put("maxMicros", h.getMaxValue());
+            commands.put(e.getKey(), stats);
+        }
+        Map<String, Object> trips = new TreeMap<>();
+        roundTrips.forEach((name, count) -> trips.put(name, count.get()));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commands", commands);
+        report.put("roundTrips", trips);
+        Files.writeString(base.resolveSibling(base.getFileName() + ".json"), new Json().toJson(report), StandardCharsets.UTF_8);
+
+        try (PrintStream log = new PrintStream(base.resolveSibling(base.getFileName() + ".hlog").toFile(), StandardCharsets.UTF_8)) {
+            HistogramLogWriter writer = new HistogramLogWriter(log);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startedMillis);
+            writer.setBaseTime(startedMillis);
+            writer.outputLegend();
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, Histogram> e : new TreeMap<>(histograms).entrySet()) {
+                Histogram h = e.getValue().copy();
+                h.setStartTimeStamp(startedMillis);
+                h.setEndTimeStamp(now);
+                // tags cannot contain spaces or commas
+                h.setTag(e.getKey().replaceAll("[\\s,]+", "_"));
+                writer.outputIntervalHistogram(h);
+            }
+        }
+    }
+}
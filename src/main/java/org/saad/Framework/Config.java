@@ -0,0 +1,73 @@
+package org.saad.Framework;
+
+/**
+ * Reads run settings from -D system properties so the same flows can run
+ * locally and on CI agents without editing code.
+ */
+public final class Config {
+
+    private Config() {
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("-D" + key + " must be a number but was '" + value + "'", e);
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    // chrome (default), edge or firefox
+    public static String browser() {
+        return get("browser", "chrome").toLowerCase();
+    }
+
+    // browser (default): every scenario gets a real browser
+    // auto: STATIC_DOM scenarios run on the in-JVM HtmlUnit browser, the rest on a real one
+    // htmlunit: every scenario runs in-JVM
+    public static String backend() {
+        return get("backend", "browser").toLowerCase();
+    }
+
+    // time every WebDriver command, see CommandTimings
+    public static boolean instrument() {
+        return getBoolean("instrument", false);
+    }
+
+    // normal (default), eager or none; with none the flows decide per navigation, see Navigation
+    public static String pageLoadStrategy() {
+        return get("page.load.strategy", "normal").toLowerCase();
+    }
+
+    public static boolean headless() {
+        return getBoolean("headless", false);
+    }
+
+    // how many scenarios run at the same time
+    public static int threads() {
+        return getInt("threads", 4);
+    }
+
+    // http://host:4444 of a Selenium Grid, browsers then start there instead of locally
+    public static String gridUrl() {
+        return get("grid.url", "");
+    }
+
+    public static int poolSize() {
+        return getInt("pool.size", threads());
+    }
+}
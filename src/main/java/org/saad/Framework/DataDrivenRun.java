@@ -0,0 +1,233 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Pushes every row of a CSV/JSONL file through one flow, on several browsers at once.
+ *
+ * <pre>
+ * new DataDrivenRun(Path.of("data/angularpractice.csv"), 4, Path.of("target/ddt"))
+ *         .run(DriverFactory::create, Assigment02::submit);
+ * </pre>
+ *
+ * Row n belongs to shard n % shards, every shard has its own browser and its own
+ * {@link RowSource} over the file, so shards never wait for each other and no row
+ * is kept after it is done (memory stays flat however big the file is).
+ *
+ * Every shard writes a checkpoint (byte offset and number of the next row) to the
+ * checkpoint directory every {@code checkpointEvery} rows and when it ends. Starting
+ * the same run again continues each shard where its checkpoint says, so at most
+ * checkpointEvery - 1 rows per shard run twice after a crash. A finished shard stays
+ * finished until {@link #reset()}; another shard count is another run and starts over.
+ * Rows that fail are appended to {@code <file>.shard-k-of-n.failures} and the run goes on.
+ */
+public final class DataDrivenRun {
+
+    /** The work done for one row, e.g. filling and submitting a form. */
+    @FunctionalInterface
+    public interface RowFlow {
+        void run(WebDriver driver, Row row) throws Exception;
+    }
+
+    private final Path data;
+    private final int shards;
+    private final Path checkpoints;
+    private final int checkpointEvery;
+
+    public DataDrivenRun(Path data, int shards, Path checkpoints) {
+        this(data, shards, checkpoints, Config.getInt("ddt.checkpoint.every", 25));
+    }
+
+    public DataDrivenRun(Path data, int shards, Path checkpoints, int checkpointEvery) {
+        if (shards < 1 || checkpointEvery < 1) {
+            throw new IllegalArgumentException("shards and checkpointEvery must be at least 1");
+        }
+        this.data = data;
+        this.shards = shards;
+        this.checkpoints = checkpoints;
+        this.checkpointEvery = checkpointEvery;
+    }
+
+    /** Forgets all checkpoints and failure files of this run, the next run starts at the first row. */
+    public void reset() {
+        try {
+            for (int shard = 0; shard < shards; shard++) {
+                Files.deleteIfExists(checkpointFile(shard));
+                Files.deleteIfExists(failureFile(shard));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Runs (or resumes) every shard and returns once all of them are done. */
+    public Result run(Supplier<WebDriver> drivers, RowFlow flow) {
+        try {
+            Files.createDirectories(checkpoints);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(shards);
+        try (DriverPool pool = new DriverPool(shards, drivers)) {
+            List<Future<Checkpoint>> results = new ArrayList<>();
+            for (int shard = 0; shard < shards; shard++) {
+                int current = shard;
+                results.add(executor.submit(() -> runShard(current, pool, flow)));
+            }
+            StringBuilder out = new StringBuilder(String.format("%-8s %10s %8s %8s %s%n", "Shard", "NextRow", "Passed", "Failed", "Done"));
+            long passed = 0;
+            long failed = 0;
+            for (int shard = 0; shard < shards; shard++) {
+                Checkpoint checkpoint = results.get(shard).get();
+                passed += checkpoint.passed;
+                failed += checkpoint.failed;
+                out.append(String.format("%-8d %10d %8d %8d %s%n", shard, checkpoint.index, checkpoint.passed, checkpoint.failed, checkpoint.done));
+            }
+            out.append(String.format("%s: %d passed, %d failed on %d shards in %d ms (counts include earlier resumed runs)%n",
+                    data.getFileName(), passed, failed, shards, Duration.ofNanos(System.nanoTime() - start).toMillis()));
+            return new Result(out.toString(), passed, failed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Data driven run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Shard failed: " + e.getCause(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Checkpoint runShard(int shard, DriverPool pool, RowFlow flow) throws IOException {
+        Checkpoint checkpoint = Checkpoint.read(checkpointFile(shard));
+        if (checkpoint.done) {
+            return checkpoint;
+        }
+        WebDriver driver = pool.borrow(Duration.ofMinutes(5));
+        int sinceCheckpoint = 0;
+        try (RowSource rows = RowSource.open(data, checkpoint.offset, checkpoint.index, shard, shards);
+             BufferedWriter failures = Files.newBufferedWriter(failureFile(shard), StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            while (rows.hasNext()) {
+                Row row = rows.next();
+                try {
+                    flow.run(driver, row);
+                    checkpoint.passed++;
+                } catch (Exception | AssertionError e) {
+                    checkpoint.failed++;
+                    failures.write(row.index() + "\t" + String.valueOf(e).replace('\n', ' '));
+                    failures.newLine();
+                    if (e instanceof WebDriverException && !alive(driver)) {
+                        pool.invalidate(driver);
+                        driver = pool.borrow(Duration.ofMinutes(5));
+                    }
+                }
+                checkpoint.offset = row.nextOffset();
+                checkpoint.index = row.index() + 1;
+                if (++sinceCheckpoint >= checkpointEvery) {
+                    failures.flush();
+                    checkpoint.write(checkpointFile(shard), shards);
+                    sinceCheckpoint = 0;
+                }
+            }
+            checkpoint.done = true;
+            failures.flush();
+            checkpoint.write(checkpointFile(shard), shards);
+        } finally {
+            pool.release(driver);
+        }
+        return checkpoint;
+    }
+
+    private static boolean alive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private Path checkpointFile(int shard) {
+        return checkpoints.resolve(data.getFileName() + ".shard-" + shard + "-of-" + shards + ".checkpoint");
+    }
+
+    private Path failureFile(int shard) {
+        return checkpoints.resolve(data.getFileName() + ".shard-" + shard + "-of-" + shards + ".failures");
+    }
+
+    /** Rows passed and failed over all shards, toString() is the table of the shards. */
+    public static final class Result {
+        private final String table;
+        private final long passed;
+        private final long failed;
+
+        private Result(String table, long passed, long failed) {
+            this.table = table;
+            this.passed = passed;
+            this.failed = failed;
+        }
+
+        public long passed() {
+            return passed;
+        }
+
+        public long failed() {
+            return failed;
+        }
+
+        @Override
+        public String toString() {
+            return table;
+        }
+    }
+
+    // where a shard stands, kept as a small properties file
+    private static final class Checkpoint {
+        long offset;
+        long index;
+        long passed;
+        long failed;
+        boolean done;
+
+        static Checkpoint read(Path file) {
+            Checkpoint checkpoint = new Checkpoint();
+            Properties properties = HistoryFile.read(file);
+            checkpoint.offset = Long.parseLong(properties.getProperty("offset", "0"));
+            checkpoint.index = Long.parseLong(properties.getProperty("index", "0"));
+            checkpoint.passed = Long.parseLong(properties.getProperty("passed", "0"));
+            checkpoint.failed = Long.parseLong(properties.getProperty("failed", "0"));
+            checkpoint.done = Boolean.parseBoolean(properties.getProperty("done", "false"));
+            return checkpoint;
+        }
+
+        // a crash never leaves half a checkpoint, see HistoryFile
+        void write(Path file, int shards) {
+            Properties properties = new Properties();
+            properties.setProperty("shards", String.valueOf(shards));
+            properties.setProperty("offset", String.valueOf(offset));
+            properties.setProperty("index", String.valueOf(index));
+            properties.setProperty("passed", String.valueOf(passed));
+            properties.setProperty("failed", String.valueOf(failed));
+            properties.setProperty("done", String.valueOf(done));
+            HistoryFile.write(file, properties, "next row to run for this shard");
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The page as it is right now, copied into the JVM with one script call, so any
+ * number of checks cost no further round trips.
+ *
+ * <pre>
+ * DomSnapshot page = DomSnapshot.take(driver);
+ * Assert.assertTrue(page.isChecked(By.id("checkBoxOption1")));
+ * Assert.assertEquals(page.count(By.xpath("//input[@type='checkbox']")), 3);
+ * Assert.assertEquals(page.text(By.cssSelector("div.login h2")), "Hello Saad,");
+ * </pre>
+ *
+ * Live form state is written into the copy first: what is typed in an input, a
+ * textarea's text, checked boxes and selected options become attributes, so
+ * {@link #value}, {@link #isChecked} and {@link #isSelected} see what the user sees.
+ * Scripts and styles are left out. XPath runs on the JDK's XPath engine (1.0, like
+ * the browser's), CSS selectors are translated to XPath and support tags, #id,
+ * .class, [attr], [attr=v], [attr*=v], [attr^=v], [attr$=v], descendant and child (>)
+ * combinators; anything else throws IllegalArgumentException.
+ *
+ * {@link #text} is the whitespace-normalized text content, which differs from
+ * getText() for hidden elements: a snapshot has no layout. It is a copy: after the
+ * page changes, take a new one.
+ */
+public final class DomSnapshot {
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var live = document.documentElement;"
+            + "var copy = live.cloneNode(true);"
+            + "var from = live.getElementsByTagName('*');"
+            + "var to = copy.getElementsByTagName('*');"
+            + "for (var i = 0; i < from.length; i++) {"
+            + "  var l = from[i], c = to[i], tag = l.tagName;"
+            + "  if (tag === 'INPUT') {"
+            + "    if (l.type === 'checkbox' || l.type === 'radio') {"
+            + "      if (l.checked) { c.setAttribute('checked', 'checked'); } else { c.removeAttribute('checked'); }"
+            + "    } else if (l.type !== 'password' && l.type !== 'file') {"
+            + "      c.setAttribute('value', l.value);"
+            + "    }"
+            + "  } else if (tag === 'TEXTAREA') {"
+            + "    c.textContent = l.value;"
+            + "  } else if (tag === 'OPTION') {"
+            + "    if (l.selected) { c.setAttribute('selected', 'selected'); } else { c.removeAttribute('selected'); }"
+            + "  }"
+            + "}"
+            + "var drop = copy.querySelectorAll('script, style, noscript, template');"
+            + "for (var j = 0; j < drop.length; j++) { drop[j].parentNode.removeChild(drop[j]); }"
+            + "return new XMLSerializer().serializeToString(copy);";
+
+    private static final Pattern CSS_STEP = Pattern.compile(
+            "\\s*(>)?\\s*([a-zA-Z][\\w-]*|\\*)?((?:#[\\w-]+|\\.[\\w-]+|\\[[\\w-]+(?:[*^$]?=(?:'[^']*'|\"[^\"]*\"|[^\\]]*))?\\])*)");
+    private static final Pattern CSS_PART = Pattern.compile(
+            "#([\\w-]+)|\\.([\\w-]+)|\\[([\\w-]+)(?:([*^$]?=)(?:'([^']*)'|\"([^\"]*)\"|([^\\]]*)))?\\]");
+
+    private final Document document;
+    private final XPath xpath = XPathFactory.newInstance().newXPath();
+
+    private DomSnapshot(Document document) {
+        this.document = document;
+    }
+
+    public static DomSnapshot take(WebDriver driver) {
+        String xml = (String) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT);
+        return parse(xml);
+    }
+
+    /** Parses markup that XMLSerializer produced, e.g. one saved from an earlier snapshot. */
+    public static DomSnapshot parse(String xml) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            // element names stay plain "input", not "{http://www.w3.org/1999/xhtml}input"
+            factory.setNamespaceAware(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            builder.setErrorHandler(null);
+            return new DomSnapshot(builder.parse(new InputSource(new StringReader(xml))));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot parse page snapshot", e);
+        }
+    }
+
+    public List<Element> findAll(By locator) {
+        return evaluate(toXpath(locator));
+    }
+
+    public int count(By locator) {
+        return findAll(locator).size();
+    }
+
+    public boolean exists(By locator) {
+        return !findAll(locator).isEmpty();
+    }
+
+    /** Normalized text of the first match, like findElement(locator).getText() on a visible element. */
+    public String text(By locator) {
+        return first(locator).getTextContent().replaceAll("\\s+", " ").trim();
+    }
+
+    public List<String> texts(By locator) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : findAll(locator)) {
+            texts.add(element.getTextContent().replaceAll("\\s+", " ").trim());
+        }
+        return texts;
+    }
+
+    /** Attribute of the first match, null when it does not have it. */
+    public String attribute(By locator, String name) {
+        Element element = first(locator);
+        return element.hasAttribute(name) ? element.getAttribute(name) : null;
+    }
+
+    /** Current value of an input, at the time of the snapshot. */
+    public String value(By locator) {
+        return first(locator).getAttribute("value");
+    }
+
+    /** Checkbox or radio button is checked, like isSelected(). */
+    public boolean isChecked(By locator) {
+        return first(locator).hasAttribute("checked");
+    }
+
+    /** Option is selected, like isSelected(). */
+    public boolean isSelected(By locator) {
+        Element element = first(locator);
+        return element.hasAttribute("selected") || element.hasAttribute("checked");
+    }
+
+    private Element first(By locator) {
+        List<Element> found = findAll(locator);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Not in the page snapshot: " + locator);
+        }
+        return found.get(0);
+    }
+
+    private List<Element> evaluate(String expression) {
+        try {
+            NodeList nodes = (NodeList) xpath.evaluate(expression, document, XPathConstants.NODESET);
+            List<Element> elements = new ArrayList<>(nodes.getLength());
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i).getNodeType() == Node.ELEMENT_NODE) {
+                    elements.add((Element) nodes.item(i));
+                }
+            }
+            return elements;
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath for the snapshot: " + expression, e);
+        }
+    }
+
+    static String toXpath(By locator) {
+        String[] using = JsLocator.of(locator);
+        String value = using[1];
+        switch (using[0]) {
+            case "xpath":
+                return value;
+            case "css selector":
+                return cssToXpath(value);
+            case "id":
+                return "//*[@id=" + literal(value) + "]";
+            case "name":
+                return "//*[@name=" + literal(value) + "]";
+            case "class name":
+                return "//*[contains(concat(' ', normalize-space(@class), ' '), " + literal(" " + value + " ") + ")]";
+            case "tag name":
+                return "//" + value.toLowerCase(Locale.ROOT);
+            case "link text":
+                return "//a[normalize-space(.)=" + literal(value) + "]";
+            case "partial link text":
+                return "//a[contains(., " + literal(value) + ")]";
+            default:
+                throw new IllegalArgumentException("Unsupported locator for the snapshot: " + locator);
+        }
+    }
+
+    static String cssToXpath(String css) {
+        StringBuilder out = new StringBuilder();
+        for (String group : groups(css)) {
+            if (group.isBlank()) {
+                throw new IllegalArgumentException("CSS selector not supported by the snapshot: " + css);
+            }
+            if (out.length() > 0) {
+                out.append(" | ");
+            }
+            out.append(groupToXpath(group.trim(), css));
+        }
+        return out.toString();
+    }
+
+    // the selector split at its top level commas, a comma in a quoted or bracketed value stays
+    private static List<String> groups(String css) {
+        List<String> groups = new ArrayList<>();
+        char quote = 0;
+        int brackets = 0;
+        int start = 0;
+        for (int i = 0; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == ',' && brackets == 0) {
+                groups.add(css.substring(start, i));
+                start = i + 1;
+            }
+        }
+        groups.add(css.substring(start));
+        return groups;
+    }
+
+    private static String groupToXpath(String group, String css) {
+        StringBuilder out = new StringBuilder();
+        Matcher step = CSS_STEP.matcher(group);
+        int at = 0;
+        while (at < group.length()) {
+            if (!step.find(at) || step.start() != at || step.end() == at) {
+                throw new IllegalArgumentException("CSS selector not supported by the snapshot: " + css);
+            }
+            boolean child = step.group(1) != null;
+            String tag = step.group(2) == null ? "*" : step.group(2).toLowerCase(Locale.ROOT);
+            out.append(child ? "/" : "//").append(tag);
+            Matcher part = CSS_PART.matcher(step.group(3));
+            while (part.find()) {
+                if (part.group(1) != null) {
+                    out.append("[@id=").append(literal(part.group(1))).append(']');
+                } else if (part.group(2) != null) {
+                    out.append("[contains(concat(' ', normalize-space(@class), ' '), ").append(literal(" " + part.group(2) + " ")).append(")]");
+                } else {
+                    String attribute = "@" + part.group(3);
+                    String operator = part.group(4);
+                    String value = part.group(5) != null ? part.group(5) : part.group(6) != null ? part.group(6) : part.group(7);
+                    if (operator == null) {
+                        out.append('[').append(attribute).append(']');
+                    } else if (operator.equals("=")) {
+                        out.append('[').append(attribute).append('=').append(literal(value)).append(']');
+                    } else if (operator.equals("*=")) {
+                        out.append("[contains(").append(attribute).append(", ").append(literal(value)).append(")]");
+                    } else if (operator.equals("^=")) {
+                        out.append("[starts-with(").append(attribute).append(", ").append(literal(value)).append(")]");
+                    } else {
+                        // XPath 1.0 has no ends-with
+                        out.append("[substring(").append(attribute).append(", string-length(").append(attribute)
+                                .append(") - ").append(value.length() - 1).append(")=").append(literal(value)).append(']');
+                    }
+                }
+            }
+            at = step.end();
+        }
+        return out.toString();
+    }
+
+    private static String literal(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+}
@@ -0,0 +1,128 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * One place that knows how to start a browser, instead of every flow doing
+ * System.setProperty + new ChromeDriver() on its own.
+ * If -Dwebdriver.chrome.driver (or edge/gecko) is set it is used as before,
+ * otherwise Selenium Manager downloads the matching driver.
+ * -Dpage.load.strategy sets how long driver.get blocks, see {@link Navigation}.
+ * With -Dgrid.url the real browsers start on that Selenium Grid instead, see {@link GridStatus}.
+ *
+ * "htmlunit" is an in-JVM browser with JavaScript enabled. It starts in
+ * milliseconds and needs no driver binary, but has no real layout engine, so it
+ * only fits flows declared {@link Scenario.Capability#STATIC_DOM}.
+ */
+public final class DriverFactory {
+
+    // Grid sessions started here and the Grid they run on, see RemoteUpload
+    private static final Map<WebDriver, String> GRIDS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DriverFactory() {
+    }
+
+    public static WebDriver create() {
+        return create(Config.browser());
+    }
+
+    /** Chooses the backend for a scenario from -Dbackend and the scenario's declared capability. */
+    public static WebDriver forScenario(Scenario scenario) {
+        return create(browserFor(scenario));
+    }
+
+    public static String browserFor(Scenario scenario) {
+        switch (Config.backend()) {
+            case "browser":
+                return Config.browser();
+            case "htmlunit":
+                return "htmlunit";
+            case "auto":
+                return scenario.capability() == Scenario.Capability.STATIC_DOM ? "htmlunit" : Config.browser();
+            default:
+                throw new IllegalArgumentException("Unsupported -Dbackend '" + Config.backend() + "', use browser, auto or htmlunit");
+        }
+    }
+
+    private static PageLoadStrategy pageLoadStrategy() {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(Config.pageLoadStrategy());
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unsupported -Dpage.load.strategy '" + Config.pageLoadStrategy() + "', use normal, eager or none");
+        }
+        return strategy;
+    }
+
+    public static WebDriver create(String browser) {
+        return create(browser, Config.gridUrl());
+    }
+
+    /** Starts {@code browser} on the Grid at {@code grid}, or locally when it is empty. */
+    public static WebDriver create(String browser, String grid) {
+        boolean headless = Config.headless();
+        PageLoadStrategy pageLoad = pageLoadStrategy();
+        switch (browser) {
+            case "chrome": {
+                ChromeOptions options = new ChromeOptions();
+                options.setPageLoadStrategy(pageLoad);
+                if (headless) {
+                    options.addArguments("--headless=new");
+                }
+                return grid.isEmpty() ? new ChromeDriver(options) : remote(grid, options);
+            }
+            case "edge": {
+                EdgeOptions options = new EdgeOptions();
+                options.setPageLoadStrategy(pageLoad);
+                if (headless) {
+                    options.addArguments("--headless=new");
+                }
+                return grid.isEmpty() ? new EdgeDriver(options) : remote(grid, options);
+            }
+            case "firefox": {
+                FirefoxOptions options = new FirefoxOptions();
+                options.setPageLoadStrategy(pageLoad);
+                if (headless) {
+                    options.addArguments("-headless");
+                }
+                return grid.isEmpty() ? new FirefoxDriver(options) : remote(grid, options);
+            }
+            case "htmlunit":
+                // runs in this JVM even when a Grid is configured
+                return new HtmlUnitDriver(true);
+            default:
+                throw new IllegalArgumentException("Unsupported browser '" + browser + "', use chrome, edge, firefox or htmlunit");
+        }
+    }
+
+    private static WebDriver remote(String grid, Capabilities options) {
+        try {
+            // Augmenter adds DevTools to Grid sessions of Chromium browsers, see NetworkPolicy
+            WebDriver driver = new Augmenter().augment(new RemoteWebDriver(new URL(grid), options));
+            GRIDS.put(driver, grid);
+            return driver;
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("-Dgrid.url is not a URL: " + grid, e);
+        }
+    }
+
+    /** The Grid {@code driver} was started on by this factory, null for a local browser. */
+    public static String gridOf(WebDriver driver) {
+        return GRIDS.get(driver);
+    }
+}
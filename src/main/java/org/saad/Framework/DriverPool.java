@@ -0,0 +1,292 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a set of already started browsers so a flow can borrow one instead of
+ * paying the browser start on every run.
+ *
+ * <pre>
+ * DriverPool pool = new DriverPool(4, DriverFactory::create);
+ * pool.prewarm(4);
+ * WebDriver driver = pool.borrow(Duration.ofSeconds(60));
+ * try {
+ *     driver.get("https://rahulshettyacademy.com/AutomationPractice/");
+ * } finally {
+ *     pool.release(driver);
+ * }
+ * </pre>
+ *
+ * On release the browser is reset (extra tabs closed, implicit wait, cookies
+ * and storage cleared, about:blank loaded) so the next borrower gets a clean session.
+ * A browser that fails the reset or the health check on borrow is quit and
+ * replaced.
+ */
+public class DriverPool implements AutoCloseable {
+
+    private final int maxSize;
+    private final Supplier<WebDriver> factory;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<WebDriver> idle = new ConcurrentLinkedDeque<>();
+    private final Set<WebDriver> all = ConcurrentHashMap.newKeySet();
+    // out on loan, each one holds a permit until it comes back once
+    private final Set<WebDriver> borrowed = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong prewarmFailures = new AtomicLong();
+    private volatile Throwable lastPrewarmFailure;
+
+    private volatile boolean closed;
+
+    public DriverPool(int maxSize, Supplier<WebDriver> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1 but was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /** Starts up to {@code count} browsers in parallel so the first borrowers don't wait for a cold start. */
+    public void prewarm(int count) {
+        int toStart = Math.min(count, maxSize) - all.size();
+        if (toStart <= 0) {
+            return;
+        }
+        ExecutorService starter = Executors.newFixedThreadPool(toStart);
+        try {
+            List<Future<WebDriver>> started = new ArrayList<>();
+            for (int i = 0; i < toStart; i++) {
+                started.add(starter.submit(this::newDriver));
+            }
+            for (Future<WebDriver> future : started) {
+                try {
+                    idle.offer(future.get());
+                } catch (ExecutionException e) {
+                    // a browser that could not start is not fatal, borrow() will try again; counted in summary()
+                    prewarmFailures.incrementAndGet();
+                    lastPrewarmFailure = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        } finally {
+            starter.shutdown();
+        }
+    }
+
+    public WebDriver borrow(Duration timeout) {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is closed");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("No browser became free within " + timeout + " (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser", e);
+        }
+        try {
+            WebDriver driver;
+            while ((driver = idle.poll()) != null) {
+                if (isHealthy(driver)) {
+                    break;
+                }
+                discard(driver);
+            }
+            if (driver == null) {
+                driver = newDriver();
+            }
+            borrowed.add(driver);
+            recordWait(System.nanoTime() - start);
+            return driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** Gives a borrowed browser back; a second release of the same borrow, or a browser that is not on loan, is ignored. */
+    public void release(WebDriver driver) {
+        if (driver == null || !borrowed.remove(driver)) {
+            return;
+        }
+        try {
+            if (closed) {
+                discard(driver);
+            } else if (reset(driver)) {
+                idle.offerFirst(driver);
+            } else {
+                discard(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Use when the borrower knows the browser is broken, e.g. it crashed mid flow. */
+    public void invalidate(WebDriver driver) {
+        if (driver == null || !borrowed.remove(driver)) {
+            return;
+        }
+        discard(driver);
+        permits.release();
+    }
+
+    // browsers still on loan are quit too, their release() only gives the permit back
+    @Override
+    public void close() {
+        closed = true;
+        for (WebDriver driver : all) {
+            quitQuietly(driver);
+        }
+        all.clear();
+        idle.clear();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public long borrowCount() {
+        return borrows.get();
+    }
+
+    public Duration averageBorrowWait() {
+        long count = borrows.get();
+        return Duration.ofNanos(count == 0 ? 0 : totalWaitNanos.get() / count);
+    }
+
+    public Duration maxBorrowWait() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    /** Why the last browser prewarm() started failed to come up, null if none failed. */
+    public Throwable lastPrewarmFailure() {
+        return lastPrewarmFailure;
+    }
+
+    public String summary() {
+        return "DriverPool[size=" + maxSize
+                + ", live=" + all.size()
+                + ", idle=" + idle.size()
+                + ", created=" + created.get()
+                + ", discarded=" + discarded.get()
+                + (prewarmFailures.get() == 0 ? ""
+                        : ", prewarmFailed=" + prewarmFailures.get() + " (last: "
+                                + String.valueOf(lastPrewarmFailure).lines().findFirst().orElse("") + ")")
+                + ", borrows=" + borrows.get()
+                + ", avgWait=" + averageBorrowWait().toMillis() + "ms"
+                + ", maxWait=" + maxBorrowWait().toMillis() + "ms]";
+    }
+
+    private WebDriver newDriver() {
+        WebDriver driver = factory.get();
+        all.add(driver);
+        created.incrementAndGet();
+        return driver;
+    }
+
+    private void recordWait(long nanos) {
+        borrows.incrementAndGet();
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // One cheap command tells us the session and the browser behind it are still alive
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static boolean reset(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String keep = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(keep);
+            driver.switchTo().defaultContent();
+            // flows like Locators set an implicit wait, the next borrower should not inherit it
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); } catch (e) {}"
+                                + "try { window.sessionStorage.clear(); } catch (e) {}");
+            } catch (WebDriverException e) {
+                // an open alert or an about:blank page, nothing stored there
+            }
+            HasCdp cdp = cdp(driver);
+            if (cdp != null) {
+                // deleteAllCookies() only covers the current domain, CDP clears every domain
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException | java.util.NoSuchElementException e) {
+            return false;
+        }
+    }
+
+    // local Chromium drivers, and Grid sessions or decorated drivers that wrap or were augmented with CDP;
+    // null when there is no CDP behind the driver. SessionCache uses it too
+    static HasCdp cdp(WebDriver driver) {
+        WebDriver current = driver;
+        while (!(current instanceof HasCdp) && current instanceof WrapsDriver) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        return current instanceof HasCdp ? (HasCdp) current : null;
+    }
+
+    private void discard(WebDriver driver) {
+        all.remove(driver);
+        idle.remove(driver);
+        discarded.incrementAndGet();
+        quitQuietly(driver);
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // already gone
+        }
+    }
+}
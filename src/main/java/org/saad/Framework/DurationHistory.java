@@ -0,0 +1,65 @@
+package org.saad.Framework;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * How long each scenario took in earlier runs, kept as an exponentially weighted
+ * moving average (newest run weighs {@link #ALPHA}) in a properties file that
+ * survives mvn clean: .history/scenario-durations.properties, or -Dhistory.dir.
+ * A slow outlier moves the estimate but does not replace it.
+ */
+public final class DurationHistory {
+
+    static final double ALPHA = 0.3;
+    // what a scenario that never ran is assumed to take, long enough to be scheduled early
+    static final long UNKNOWN_MILLIS = 10_000;
+
+    private final Path file;
+    private final Map<String, Long> millis = new TreeMap<>();
+
+    private DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    public static DurationHistory load() {
+        return load(HistoryFile.of("scenario-durations.properties"));
+    }
+
+    public static DurationHistory load(Path file) {
+        DurationHistory history = new DurationHistory(file);
+        HistoryFile.read(file).forEach((name, value) -> history.millis.put((String) name, Long.parseLong((String) value)));
+        return history;
+    }
+
+    public synchronized boolean knows(String scenario) {
+        return millis.containsKey(scenario);
+    }
+
+    /**
+     * Expected duration. A new scenario gets the average of the known ones, but never
+     * less than {@link #UNKNOWN_MILLIS}, so it is not scheduled late behind a set of
+     * short scenarios; with no history at all it gets {@link #UNKNOWN_MILLIS}.
+     */
+    public synchronized long estimate(String scenario) {
+        Long known = millis.get(scenario);
+        if (known != null) {
+            return known;
+        }
+        return millis.isEmpty() ? UNKNOWN_MILLIS
+                : Math.max(UNKNOWN_MILLIS, (long) millis.values().stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+
+    public synchronized void record(String scenario, long durationMillis) {
+        Long known = millis.get(scenario);
+        millis.put(scenario, known == null ? durationMillis : Math.round(ALPHA * durationMillis + (1 - ALPHA) * known));
+    }
+
+    public synchronized void save() {
+        Properties properties = new Properties();
+        millis.forEach((name, value) -> properties.setProperty(name, String.valueOf(value)));
+        HistoryFile.write(file, properties, "scenario duration in ms, moving average over runs");
+    }
+}
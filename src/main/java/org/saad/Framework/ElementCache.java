@@ -0,0 +1,88 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Remembers the element a locator resolved to, so asking for the same
+ * locator again on the same page costs no WebDriver call.
+ *
+ * <pre>
+ * ElementCache cache = new ElementCache(driver);
+ * cache.find(By.xpath("//input[@id='checkBoxOption1']")).click();
+ * Assert.assertTrue(cache.find(By.xpath("//input[@id='checkBoxOption1']")).isSelected());
+ * </pre>
+ *
+ * There is no extra call to validate a cached element: the next real command
+ * on it is the validation. If that command hits a StaleElementReferenceException
+ * the page changed under us, so the whole cache is dropped and the locator is
+ * resolved once more. {@link #get(String)} drops the cache on navigation.
+ * One cache belongs to one driver and one thread.
+ */
+public class ElementCache {
+
+    private final WebDriver driver;
+    private final Map<By, CachedElement> elements = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long staleRetries;
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public WebElement find(By locator) {
+        CachedElement element = elements.get(locator);
+        if (element != null) {
+            hits++;
+            return element;
+        }
+        misses++;
+        element = new CachedElement(this, locator, driver.findElement(locator));
+        elements.put(locator, element);
+        return element;
+    }
+
+    public void get(String url) {
+        invalidate();
+        driver.get(url);
+    }
+
+    public void invalidate() {
+        elements.clear();
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long staleRetries() {
+        return staleRetries;
+    }
+
+    public String summary() {
+        return "ElementCache[hits=" + hits + ", misses=" + misses + ", staleRetries=" + staleRetries + "]";
+    }
+
+    // Called by a CachedElement whose element went stale, returns a fresh element for the same locator
+    WebElement resolveAgain(By locator) {
+        staleRetries++;
+        invalidate();
+        misses++;
+        return driver.findElement(locator);
+    }
+
+    // The stale element was re-resolved, keep using the wrapper for later lookups
+    void remember(By locator, CachedElement element) {
+        elements.put(locator, element);
+    }
+}
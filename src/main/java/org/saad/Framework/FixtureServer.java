@@ -0,0 +1,156 @@
+package org.saad.Framework;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the sanitized copies of the practice pages kept under
+ * src/main/resources/fixtures/&lt;host&gt;/&lt;path&gt; so flows can run without the
+ * internet and with a predictable, fast server.
+ *
+ * http://127.0.0.1:8088/rahulshettyacademy.com/AutomationPractice/ is the local
+ * copy of https://rahulshettyacademy.com/AutomationPractice/. Flows pick the
+ * target through {@link Sites#resolve(String)}.
+ *
+ * Run standalone (e.g. shared by several runner JVMs):
+ * mvn compile exec:java -Dexec.mainClass=org.saad.Framework.FixtureServer -Dfixture.port=8088
+ */
+public final class FixtureServer implements AutoCloseable {
+
+    // what the autosuggest endpoints of the practice pages answer with
+    private static final List<String> COUNTRIES = List.of(
+            "Australia", "Bangladesh", "British Indian Ocean Territory", "Canada", "China", "Germany",
+            "India", "Indonesia", "Pakistan", "Saudi Arabia", "Sri Lanka", "United Arab Emirates",
+            "United Kingdom (UK)", "United States (USA)");
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "png", "image/png",
+            "svg", "image/svg+xml");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // pages are read from the classpath once and then served from memory
+    private final ConcurrentHashMap<String, Optional<byte[]>> files = new ConcurrentHashMap<>();
+
+    private FixtureServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /** Starts the server on {@code port}, 0 picks a free port. */
+    public static FixtureServer start(int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+            ExecutorService executor = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "fixture-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+            FixtureServer fixtures = new FixtureServer(server, executor);
+            server.createContext("/", fixtures::handle);
+            server.setExecutor(executor);
+            server.start();
+            return fixtures;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the fixture server on port " + port, e);
+        }
+    }
+
+    public static void main(String[] args) {
+        FixtureServer fixtures = start(Config.getInt("fixture.port", 8088));
+        System.out.println("Serving practice pages on " + fixtures.baseUrl());
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/api/autosuggest")) {
+                send(exchange, 200, CONTENT_TYPES.get("json"), suggestions(exchange.getRequestURI().getRawQuery()));
+                return;
+            }
+            if (path.contains("..")) {
+                send(exchange, 400, CONTENT_TYPES.get("html"), "Bad path".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            String lastSegment = path.substring(path.lastIndexOf('/') + 1);
+            if (!lastSegment.isEmpty() && !lastSegment.contains(".")) {
+                // /angularpractice/shop -> /angularpractice/shop/ so relative links in the page resolve
+                exchange.getResponseHeaders().set("Location", path + "/");
+                send(exchange, 301, CONTENT_TYPES.get("html"), new byte[0]);
+                return;
+            }
+            String file = path.endsWith("/") ? path + "index.html" : path;
+            Optional<byte[]> body = files.computeIfAbsent(file, FixtureServer::read);
+            if (body.isEmpty()) {
+                send(exchange, 404, CONTENT_TYPES.get("html"), ("No fixture for " + path).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            String extension = file.substring(file.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            send(exchange, 200, CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"), body.get());
+        }
+    }
+
+    private static Optional<byte[]> read(String file) {
+        try (InputStream in = FixtureServer.class.getResourceAsStream("/fixtures" + file)) {
+            return in == null ? Optional.empty() : Optional.of(in.readAllBytes());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    // ?term=ind -> ["India","Indonesia","British Indian Ocean Territory"]
+    private static byte[] suggestions(String query) {
+        String term = "";
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                if (pair.startsWith("term=")) {
+                    term = URLDecoder.decode(pair.substring(5), StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+                }
+            }
+        }
+        String lookFor = term;
+        String json = COUNTRIES.stream()
+                .filter(country -> !lookFor.isEmpty() && country.toLowerCase(Locale.ROOT).contains(lookFor))
+                .map(country -> "\"" + country + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        // 0 would mean a chunked body to HttpServer, -1 means no body
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
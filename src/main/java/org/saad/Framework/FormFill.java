@@ -0,0 +1,69 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills a whole form in one executeScript call instead of one findElement plus one
+ * sendKeys per field. Used by the generated page objects (see
+ * org.saad.Framework.Codegen), but works with any list of {@link JsLocator#of} pairs.
+ *
+ * Values are set like a user would leave them: the value goes through the native
+ * setter and input/change events are fired, so Angular and React forms see it.
+ * Keystroke listeners do not fire, flows that test typing itself keep sendKeys.
+ * A null value leaves its field as it is. A SELECT value must match the text or the
+ * value of one of its options; like a missing element it fails the fill with a
+ * NoSuchElementException, the fields before it are already filled then.
+ */
+public final class FormFill {
+
+    private static final String FILL_SCRIPT = JsLocator.FIND_FUNCTION
+            + "var fields = arguments[0];"
+            + "for (var i = 0; i < fields.length; i++) {"
+            + "  var f = fields[i];"
+            + "  var el = __saadFind(f[0], f[1])[0];"
+            + "  if (!el) { return 'no element for ' + f[0] + '=' + f[1]; }"
+            + "  var v = f[2];"
+            + "  if (el.type === 'checkbox' || el.type === 'radio') {"
+            + "    el.checked = v === 'true';"
+            + "  } else if (el.tagName === 'SELECT') {"
+            + "    var o = 0;"
+            + "    while (o < el.options.length && el.options[o].text.trim() !== v && el.options[o].value !== v) { o++; }"
+            + "    if (o === el.options.length) { return f[0] + '=' + f[1] + ' has no option ' + v; }"
+            + "    el.selectedIndex = o;"
+            + "  } else {"
+            + "    var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');"
+            + "    if (setter && setter.set) { setter.set.call(el, v); } else { el.value = v; }"
+            + "  }"
+            + "  el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "}"
+            + "return null;";
+
+    private FormFill() {
+    }
+
+    /** {@code locators[i]} is the {using, value} pair for {@code values[i]}. */
+    public static void fill(WebDriver driver, String[][] locators, Object... values) {
+        if (locators.length != values.length) {
+            throw new IllegalArgumentException(locators.length + " fields but " + values.length + " values");
+        }
+        List<List<String>> fields = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                fields.add(List.of(locators[i][0], locators[i][1], String.valueOf(values[i])));
+            }
+        }
+        if (fields.isEmpty()) {
+            return;
+        }
+        Object missing = ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, fields);
+        if (missing != null) {
+            throw new NoSuchElementException("Cannot fill, " + missing);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Knows which frame the driver is in and switches only when the next
+ * {@link FrameLocator} needs another one, instead of frame(...) before and
+ * defaultContent() after every interaction.
+ *
+ * <pre>
+ * try (FrameContext frames = new FrameContext(driver)) {
+ *     frames.find(COURSES_HEADING).getText();   // frame(courses-iframe)
+ *     frames.findAll(COURSES_LINKS).size();     // already there, no switch
+ *     frames.find(NAME).sendKeys("Saad");       // defaultContent()
+ * }
+ * </pre>
+ *
+ * Going from one frame path to another takes the cheaper way: parentFrame() up to
+ * the common ancestor, or defaultContent() and down again. The frame elements are
+ * remembered per path, so switching back into a frame does not look it up again
+ * unless the page replaced it. {@link #in(List, Function)} runs several steps in
+ * one frame with a single switch.
+ *
+ * Elements found here belong to the frame they were found in, use them before the
+ * context moves elsewhere. After a navigation call {@link #reset()}, the driver is
+ * back at the top of the new page then. Not thread safe, one context per driver.
+ *
+ * {@link #summary()} counts the switches done and the ones a switch-in,
+ * switch-back-out script would have done, for all contexts of the run.
+ */
+public final class FrameContext implements AutoCloseable {
+
+    private static final AtomicLong SWITCHES = new AtomicLong();
+    private static final AtomicLong NAIVE_SWITCHES = new AtomicLong();
+    private static final AtomicLong FRAME_LOOKUPS = new AtomicLong();
+
+    private final WebDriver driver;
+    // the frame path the driver is in, null when unknown
+    private List<By> current = List.of();
+    private final Map<List<By>, WebElement> frameElements = new HashMap<>();
+
+    /** For a driver that is in the top level document, as it is after driver.get(...). */
+    public FrameContext(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public WebElement find(FrameLocator locator) {
+        return in(locator.frames(), d -> d.findElement(locator.element()));
+    }
+
+    public List<WebElement> findAll(FrameLocator locator) {
+        return in(locator.frames(), d -> d.findElements(locator.element()));
+    }
+
+    /** Runs {@code work} inside {@code frames} (outermost first), several steps for one switch. */
+    public <T> T in(List<By> frames, Function<WebDriver, T> work) {
+        // the script this replaces goes in frame by frame and comes back with defaultContent()
+        NAIVE_SWITCHES.addAndGet(frames.isEmpty() ? 0 : frames.size() + 1);
+        try {
+            switchTo(frames);
+        } catch (StaleElementReferenceException | NoSuchFrameException e) {
+            // the page replaced a frame since it was remembered, start over from the top
+            frameElements.clear();
+            current = null;
+            switchTo(frames);
+        }
+        return work.apply(driver);
+    }
+
+    /** Forgets where the driver is, after something else switched frames or the page navigated. */
+    public void reset() {
+        current = null;
+        frameElements.clear();
+    }
+
+    /** Back to the top level document, if not there already. */
+    @Override
+    public void close() {
+        switchTo(List.of());
+    }
+
+    private void switchTo(List<By> target) {
+        if (target.equals(current)) {
+            return;
+        }
+        int common = 0;
+        if (current != null) {
+            while (common < current.size() && common < target.size() && current.get(common).equals(target.get(common))) {
+                common++;
+            }
+        }
+        int up = current == null ? Integer.MAX_VALUE : current.size() - common;
+        List<By> path;
+        if (up <= 1 + common) {
+            // parentFrame() up to the common ancestor costs no more than defaultContent() and down again
+            for (int i = 0; i < up; i++) {
+                driver.switchTo().parentFrame();
+                SWITCHES.incrementAndGet();
+            }
+            path = new ArrayList<>(target.subList(0, common));
+        } else {
+            driver.switchTo().defaultContent();
+            SWITCHES.incrementAndGet();
+            path = new ArrayList<>();
+        }
+        // the driver is at path now, keep it accurate in case a frame below is missing
+        current = List.copyOf(path);
+        for (int i = path.size(); i < target.size(); i++) {
+            WebElement frame = frameElement(target.subList(0, i + 1));
+            driver.switchTo().frame(frame);
+            SWITCHES.incrementAndGet();
+            path.add(target.get(i));
+            current = List.copyOf(path);
+        }
+    }
+
+    // looked up in the frame the driver is in, which is the parent of this path
+    private WebElement frameElement(List<By> path) {
+        return frameElements.computeIfAbsent(List.copyOf(path), p -> {
+            FRAME_LOOKUPS.incrementAndGet();
+            return driver.findElement(p.get(p.size() - 1));
+        });
+    }
+
+    public static String summary() {
+        long done = SWITCHES.get();
+        long naive = NAIVE_SWITCHES.get();
+        if (naive == 0 && done == 0) {
+            return "";
+        }
+        return String.format("Frame switches: %d done, %d avoided of %d switch-in/switch-out would need, %d frame lookups%n",
+                done, Math.max(0, naive - done), naive, FRAME_LOOKUPS.get());
+    }
+}
@@ -0,0 +1,54 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * An element locator together with the frames it lives in, outermost first.
+ *
+ * <pre>
+ * FrameLocator COURSES_HEADING = FrameLocator.in(By.id("courses-iframe"), By.tagName("h1"));
+ * FrameLocator NAME = FrameLocator.top(By.id("name"));
+ * </pre>
+ *
+ * Resolved through a {@link FrameContext}, which only switches frames when the
+ * frame path differs from where the driver already is.
+ */
+public final class FrameLocator {
+
+    private final List<By> frames;
+    private final By element;
+
+    private FrameLocator(List<By> frames, By element) {
+        this.frames = List.copyOf(frames);
+        this.element = element;
+    }
+
+    /** An element of the top level document. */
+    public static FrameLocator top(By element) {
+        return new FrameLocator(List.of(), element);
+    }
+
+    public static FrameLocator in(By frame, By element) {
+        return new FrameLocator(List.of(frame), element);
+    }
+
+    /** An element in nested frames, {@code frames} outermost first. */
+    public static FrameLocator in(List<By> frames, By element) {
+        return new FrameLocator(frames, element);
+    }
+
+    public List<By> frames() {
+        return frames;
+    }
+
+    public By element() {
+        return element;
+    }
+
+    @Override
+    public String toString() {
+        return frames.isEmpty() ? element.toString() : frames + " > " + element;
+    }
+}
@@ -0,0 +1,73 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Asks a Selenium Grid (hub or standalone) how many sessions it can run per
+ * browser, from GET {grid}/status. A local standalone Grid for trying this out:
+ *
+ * java -jar selenium-server-4.16.1.jar standalone --max-sessions 4
+ * ... -Dgrid.url=http://localhost:4444
+ */
+public final class GridStatus {
+
+    private GridStatus() {
+    }
+
+    /** Slots per browser name of every node that is UP, e.g. {chrome=4, firefox=2}. */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Integer> slots(String gridUrl) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(gridUrl.replaceAll("/+$", "") + "/status"))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        String body;
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Grid status " + response.statusCode() + " from " + request.uri());
+            }
+            body = response.body();
+        } catch (IOException e) {
+            throw new IllegalStateException("Grid not reachable at " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while asking " + request.uri(), e);
+        }
+        Map<String, Object> status = new Json().toType(body, Json.MAP_TYPE);
+        Map<String, Object> value = (Map<String, Object>) status.get("value");
+        Map<String, Integer> slots = new TreeMap<>();
+        for (Map<String, Object> node : (List<Map<String, Object>>) value.getOrDefault("nodes", List.of())) {
+            if (!"UP".equals(node.get("availability"))) {
+                continue;
+            }
+            Map<String, Integer> perNode = new TreeMap<>();
+            for (Map<String, Object> slot : (List<Map<String, Object>>) node.getOrDefault("slots", List.of())) {
+                Map<String, Object> stereotype = (Map<String, Object>) slot.get("stereotype");
+                String browser = String.valueOf(stereotype.get("browserName")).toLowerCase(Locale.ROOT);
+                // the Grid calls Edge "MicrosoftEdge"
+                perNode.merge(browser.equals("microsoftedge") ? "edge" : browser, 1, Integer::sum);
+            }
+            // a node offers a slot per browser and CPU, but runs at most maxSessions at once
+            int maxSessions = ((Number) node.getOrDefault("maxSessions", Integer.MAX_VALUE)).intValue();
+            perNode.forEach((browser, count) -> slots.merge(browser, Math.min(count, maxSessions), Integer::sum));
+        }
+        return slots;
+    }
+
+    /** How many sessions of {@code browser} the Grid can run at once. */
+    public static int slots(String gridUrl, String browser) {
+        return slots(gridUrl).getOrDefault(browser, 0);
+    }
+}
@@ -0,0 +1,53 @@
+package org.saad.Framework;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * The properties files under .history/ (-Dhistory.dir) that outlive mvn clean:
+ * {@link DurationHistory}, {@link ResultCache} and {@link BrowserFootprint}, and
+ * the shard checkpoints of {@link DataDrivenRun}. A write goes to a temp file that then replaces the old one in a single move, so
+ * a run killed halfway leaves the previous file and never a truncated one.
+ */
+final class HistoryFile {
+
+    private HistoryFile() {
+    }
+
+    static Path of(String name) {
+        return Path.of(Config.get("history.dir", ".history"), name);
+    }
+
+    /** The stored properties, empty when the file does not exist yet. */
+    static Properties read(Path file) {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read " + file, e);
+            }
+        }
+        return properties;
+    }
+
+    static void write(Path file, Properties properties, String comment) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(writer, comment);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + file, e);
+        }
+    }
+}
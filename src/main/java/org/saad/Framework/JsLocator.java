@@ -0,0 +1,51 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+
+/**
+ * Lets a script find elements the same way a {@link By} would, so a whole
+ * lookup plus the work on the result can happen in one executeScript call.
+ *
+ * A script starts with {@link #FIND_FUNCTION} and calls
+ * {@code __saadFind(using, value, root)} with the two values from {@link #of(By)}.
+ */
+public final class JsLocator {
+
+    public static final String FIND_FUNCTION =
+            "function __saadFind(using, value, root) {"
+            + "  root = root || document;"
+            + "  if (using === 'css selector') { return Array.prototype.slice.call(root.querySelectorAll(value)); }"
+            + "  if (using === 'id' || using === 'name') {"
+            + "    return Array.prototype.slice.call(root.querySelectorAll('[' + using + ']')).filter(function (e) {"
+            + "      return e.getAttribute(using) === value;"
+            + "    });"
+            + "  }"
+            + "  if (using === 'class name') { return Array.prototype.slice.call(root.getElementsByClassName(value)); }"
+            + "  if (using === 'tag name') { return Array.prototype.slice.call(root.getElementsByTagName(value)); }"
+            + "  if (using === 'xpath') {"
+            + "    var snapshot = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    var found = [];"
+            + "    for (var i = 0; i < snapshot.snapshotLength; i++) { found.push(snapshot.snapshotItem(i)); }"
+            + "    return found;"
+            + "  }"
+            + "  if (using === 'link text' || using === 'partial link text') {"
+            + "    return Array.prototype.slice.call(root.querySelectorAll('a')).filter(function (a) {"
+            + "      var text = a.innerText.trim();"
+            + "      return using === 'link text' ? text === value : text.indexOf(value) >= 0;"
+            + "    });"
+            + "  }"
+            + "  throw new Error('Unsupported locator strategy: ' + using);"
+            + "}";
+
+    private JsLocator() {
+    }
+
+    /** Returns {using, value} for the locator, e.g. {"id", "name"} for By.id("name"). */
+    public static String[] of(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return new String[]{parameters.using(), String.valueOf(parameters.value())};
+    }
+}
@@ -0,0 +1,90 @@
+package org.saad.Framework;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Orders scenarios longest-processing-time first and packs them onto a number of
+ * slots (parallel threads, Grid sessions) so the last one finishes as early as
+ * possible. LPT is at most 4/3 of the best possible makespan.
+ *
+ * At run time the slots do not follow the plan blindly: every free slot takes the
+ * next scenario of the LPT order (TestNG's parallel data provider does exactly
+ * that), so a scenario that runs longer than its estimate is evened out by the
+ * other slots taking more of the short ones. {@link #plan} is the prediction,
+ * printed next to what declaration order would have cost.
+ */
+public final class LptScheduler {
+
+    /** Expected end of every slot for one ordering. */
+    public static final class Plan {
+        public final List<List<Scenario>> slots;
+        public final long[] loadMillis;
+
+        Plan(List<List<Scenario>> slots, long[] loadMillis) {
+            this.slots = slots;
+            this.loadMillis = loadMillis;
+        }
+
+        public long makespanMillis() {
+            long max = 0;
+            for (long load : loadMillis) {
+                max = Math.max(max, load);
+            }
+            return max;
+        }
+    }
+
+    private final DurationHistory history;
+
+    public LptScheduler(DurationHistory history) {
+        this.history = history;
+    }
+
+    /** The scenarios sorted by expected duration, longest first; the sort is stable for equal estimates. */
+    public List<Scenario> order(List<Scenario> scenarios) {
+        List<Scenario> ordered = new ArrayList<>(scenarios);
+        ordered.sort(Comparator.comparingLong((Scenario s) -> history.estimate(s.name())).reversed());
+        return ordered;
+    }
+
+    /** What a greedy "next scenario to the first free slot" run of {@code order} is expected to look like. */
+    public Plan plan(List<Scenario> order, int slotCount) {
+        List<List<Scenario>> slots = new ArrayList<>();
+        long[] load = new long[slotCount];
+        PriorityQueue<Integer> free = new PriorityQueue<>(Comparator.comparingLong((Integer slot) -> load[slot]).thenComparingInt(slot -> slot));
+        for (int slot = 0; slot < slotCount; slot++) {
+            slots.add(new ArrayList<>());
+            free.add(slot);
+        }
+        for (Scenario scenario : order) {
+            int slot = free.poll();
+            slots.get(slot).add(scenario);
+            load[slot] += history.estimate(scenario.name());
+            free.add(slot);
+        }
+        return new Plan(slots, load);
+    }
+
+    /** The plan of the order the run uses, LPT or as declared, next to what the other one would cost. */
+    public String summary(List<Scenario> declared, int slotCount, boolean longestFirst) {
+        Plan lpt = plan(order(declared), slotCount);
+        Plan asDeclared = plan(declared, slotCount);
+        Plan used = longestFirst ? lpt : asDeclared;
+        StringBuilder out = new StringBuilder(longestFirst
+                ? String.format("Schedule on %d slots: expected makespan %d ms (declaration order %d ms)%n",
+                        slotCount, lpt.makespanMillis(), asDeclared.makespanMillis())
+                : String.format("Schedule on %d slots in declaration order: expected makespan %d ms (longest first %d ms)%n",
+                        slotCount, asDeclared.makespanMillis(), lpt.makespanMillis()));
+        for (int slot = 0; slot < slotCount; slot++) {
+            out.append(String.format("  slot %-3d %8d ms ", slot, used.loadMillis[slot]));
+            for (Scenario scenario : used.slots.get(slot)) {
+                out.append(' ').append(scenario.name()).append(history.knows(scenario.name()) ? "" : "(new)");
+            }
+            out.append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+}
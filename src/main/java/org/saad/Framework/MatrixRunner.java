@@ -0,0 +1,321 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Runs every selected scenario on every browser of -Dmatrix.browsers at the same
+ * time, as many sessions as the machine can carry instead of a fixed -Dthreads.
+ *
+ * mvn compile exec:java -Dexec.mainClass=org.saad.Framework.MatrixRunner -Dmatrix.browsers=chrome,edge,firefox
+ *
+ * Before a session starts, its browser's footprint (peak RSS and CPU per session,
+ * see {@link BrowserFootprint}, corrected upwards by what {@link ResourceMonitor}
+ * measures during this run) is reserved against two budgets taken at start:
+ * available memory minus -Dmatrix.reserve.mb (default 1024) and
+ * cores x -Dmatrix.cpu.target (default 0.8). It also has to fit the memory that is
+ * available right now, and the host CPU load has to be below the target. The next
+ * waiting session that fits starts, so a light browser can fill the room a heavy
+ * one leaves. One session always runs, however small the machine.
+ * On a Grid (-Dgrid.url) the browsers use the Grid's machines, so the limit is
+ * the Grid's slots per browser instead (all slots of the nodes that are up, see
+ * {@link GridStatus}, busy or not).
+ *
+ * The report has each scenario's time per browser and the spread between its
+ * fastest and slowest browser, and per browser the total against the fastest one.
+ */
+public final class MatrixRunner {
+
+    private static final Duration SAMPLE_PERIOD = Duration.ofMillis(500);
+
+    private final List<String> browsers;
+    private final BrowserFootprint footprint = BrowserFootprint.load();
+    private final ResourceMonitor monitor = new ResourceMonitor(SAMPLE_PERIOD);
+    private final Map<String, Integer> gridSlots = new HashMap<>();
+    private final long memoryBudgetMb;
+    private final double cpuBudget;
+    private final double cpuTarget;
+    private final long reserveMb;
+
+    // guarded by this
+    private final Map<String, Integer> running = new HashMap<>();
+    private final Map<String, Integer> peakRunning = new HashMap<>();
+    private long reservedMb;
+    private double reservedCpu;
+    private int heldForMemory;
+    private int heldForCpu;
+
+    private MatrixRunner(List<String> browsers) {
+        this.browsers = browsers;
+        this.reserveMb = Config.getInt("matrix.reserve.mb", 1024);
+        this.cpuTarget = Double.parseDouble(Config.get("matrix.cpu.target", "0.8"));
+        this.memoryBudgetMb = ResourceMonitor.availableMemoryMb() - reserveMb;
+        this.cpuBudget = ResourceMonitor.cores() * cpuTarget;
+        if (!Config.gridUrl().isEmpty()) {
+            for (String browser : browsers) {
+                gridSlots.put(browser, GridStatus.slots(Config.gridUrl(), browser));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        List<String> browsers = Arrays.stream(Config.get("matrix.browsers", "chrome,edge,firefox").split(","))
+                .map(String::trim)
+                .map(String::toLowerCase)
+                .filter(b -> !b.isEmpty())
+                .collect(Collectors.toList());
+        // longest first, the same order ScenarioRunner uses
+        List<Scenario> scenarios = new LptScheduler(ScenarioTest.history()).order(Scenarios.selected());
+
+        MatrixRunner matrix = new MatrixRunner(browsers);
+        long start = System.nanoTime();
+        List<Result> results = matrix.run(scenarios);
+        System.out.print(matrix.report(scenarios, results, System.nanoTime() - start));
+        boolean complete = results.size() == scenarios.size() * browsers.size();
+        if (!complete) {
+            System.out.printf("Only %d of %d runs reported a result%n", results.size(), scenarios.size() * browsers.size());
+        }
+        System.exit(complete && results.stream().allMatch(r -> r.error == null) ? 0 : 1);
+    }
+
+    private List<Result> run(List<Scenario> scenarios) throws InterruptedException {
+        // scenario by scenario, each on all browsers, so the browsers of one scenario run side by side
+        LinkedList<Job> pending = new LinkedList<>();
+        for (Scenario scenario : scenarios) {
+            for (String browser : browsers) {
+                pending.add(new Job(scenario, browser));
+            }
+        }
+        List<Result> results = new ArrayList<>();
+        ExecutorService workers = Executors.newCachedThreadPool();
+        try {
+            synchronized (this) {
+                while (!pending.isEmpty() || totalRunning() > 0) {
+                    Job next = admit(pending);
+                    if (next == null) {
+                        // woken when a session ends, or after a sample period since load changes on its own
+                        wait(SAMPLE_PERIOD.toMillis());
+                        continue;
+                    }
+                    workers.execute(() -> {
+                        // every job ends up in results, whatever goes wrong, or the exit code could miss it
+                        Result result;
+                        try {
+                            result = execute(next);
+                        } catch (Throwable e) {
+                            result = new Result(next, 0, 0, firstLine(e));
+                        }
+                        synchronized (this) {
+                            results.add(result);
+                            release(next);
+                            notifyAll();
+                        }
+                    });
+                }
+            }
+        } finally {
+            workers.shutdown();
+            monitor.close();
+        }
+        for (String browser : browsers) {
+            footprint.record(browser, monitor.peakRssMb(browser), monitor.peakCpuCores(browser));
+        }
+        footprint.save();
+        return results;
+    }
+
+    // the first waiting job whose browser fits, reserved and removed from pending, or null
+    private Job admit(LinkedList<Job> pending) {
+        long availableMb = ResourceMonitor.availableMemoryMb() - reserveMb;
+        double cpuLoad = ResourceMonitor.systemCpuLoad();
+        boolean memoryShort = false;
+        boolean cpuShort = false;
+        for (Iterator<Job> it = pending.iterator(); it.hasNext(); ) {
+            Job job = it.next();
+            long rss = rssMb(job.browser);
+            double cpu = cpuCores(job.browser);
+            boolean fits;
+            if (totalRunning() == 0) {
+                fits = true;
+            } else if (!gridSlots.isEmpty()) {
+                fits = running.getOrDefault(job.browser, 0) < gridSlots.getOrDefault(job.browser, 0);
+            } else {
+                boolean memory = reservedMb + rss <= memoryBudgetMb && rss <= availableMb;
+                boolean processor = reservedCpu + cpu <= cpuBudget && cpuLoad < cpuTarget;
+                memoryShort |= !memory;
+                cpuShort |= !processor;
+                fits = memory && processor;
+            }
+            if (fits) {
+                it.remove();
+                job.rssMb = rss;
+                job.cpuCores = cpu;
+                reservedMb += rss;
+                reservedCpu += cpu;
+                int now = running.merge(job.browser, 1, Integer::sum);
+                peakRunning.merge(job.browser, now, Math::max);
+                return job;
+            }
+        }
+        if (!pending.isEmpty()) {
+            heldForMemory += memoryShort ? 1 : 0;
+            heldForCpu += cpuShort ? 1 : 0;
+        }
+        return null;
+    }
+
+    private void release(Job job) {
+        reservedMb -= job.rssMb;
+        reservedCpu -= job.cpuCores;
+        running.merge(job.browser, -1, Integer::sum);
+    }
+
+    private int totalRunning() {
+        return running.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    // measured in this run when it is higher than the estimate, a session that did not ramp up yet reads low
+    private long rssMb(String browser) {
+        return Math.max(footprint.rssMb(browser), monitor.peakRssMb(browser));
+    }
+
+    private double cpuCores(String browser) {
+        return Math.max(footprint.cpuCores(browser), monitor.peakCpuCores(browser));
+    }
+
+    private Result execute(Job job) {
+        long start = System.nanoTime();
+        WebDriver driver;
+        try {
+            driver = DriverFactory.create(job.browser);
+        } catch (RuntimeException e) {
+            return new Result(job, System.nanoTime() - start, 0, "could not start: " + firstLine(e));
+        }
+        monitor.opened(job.browser);
+        long started = System.nanoTime();
+        String error = null;
+        try {
+            job.scenario.run(driver);
+        } catch (Exception | AssertionError e) {
+            error = firstLine(e);
+        } finally {
+            try {
+                driver.quit();
+            } catch (RuntimeException e) {
+                // the scenario's own failure says more than the quit that followed it
+                error = error != null ? error : "could not quit: " + firstLine(e);
+            } finally {
+                monitor.closed(job.browser);
+            }
+        }
+        return new Result(job, started - start, System.nanoTime() - started, error);
+    }
+
+    private static String firstLine(Throwable e) {
+        return String.valueOf(e).lines().findFirst().orElse("");
+    }
+
+    private String report(List<Scenario> scenarios, List<Result> results, long wallNanos) {
+        Map<String, Map<String, Result>> table = new LinkedHashMap<>();
+        for (Scenario scenario : scenarios) {
+            table.put(scenario.name(), new HashMap<>());
+        }
+        for (Result result : results) {
+            table.get(result.job.scenario.name()).put(result.job.browser, result);
+        }
+
+        StringBuilder out = new StringBuilder(String.format("Matrix: %d scenarios x %d browsers in %d ms, at most %s at once%n",
+                scenarios.size(), browsers.size(), wallNanos / 1_000_000, peakRunning));
+        out.append(String.format("%-28s", "scenario"));
+        browsers.forEach(b -> out.append(String.format(" %12s", b)));
+        out.append(String.format(" %12s%n", "spread"));
+
+        Map<String, Long> totals = new LinkedHashMap<>();
+        Map<String, Long> startups = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Result>> row : table.entrySet()) {
+            out.append(String.format("%-28s", row.getKey()));
+            long fastest = Long.MAX_VALUE;
+            long slowest = 0;
+            int passed = 0;
+            for (String browser : browsers) {
+                Result result = row.getValue().get(browser);
+                if (result == null) {
+                    out.append(String.format(" %12s", "MISSING"));
+                    continue;
+                }
+                if (result.error != null) {
+                    out.append(String.format(" %12s", "FAIL"));
+                    continue;
+                }
+                long ms = result.runNanos / 1_000_000;
+                passed++;
+                fastest = Math.min(fastest, ms);
+                slowest = Math.max(slowest, ms);
+                totals.merge(browser, ms, Long::sum);
+                startups.merge(browser, result.startNanos / 1_000_000, Long::sum);
+                out.append(String.format(" %9d ms", ms));
+            }
+            out.append(passed < 2 ? String.format(" %12s%n", "-") : String.format(" %9d ms%n", slowest - fastest));
+        }
+
+        long fastestTotal = totals.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        out.append(String.format("%-28s", "total (passed)"));
+        browsers.forEach(b -> out.append(String.format(" %9d ms", totals.getOrDefault(b, 0L))));
+        out.append(String.format("%n%-28s", "vs fastest browser"));
+        browsers.forEach(b -> out.append(totals.containsKey(b) && fastestTotal > 0
+                ? String.format(" %11.0f%%", 100.0 * (totals.get(b) - fastestTotal) / fastestTotal)
+                : String.format(" %12s", "-")));
+        out.append(String.format("%n%-28s", "browser start (sum)"));
+        browsers.forEach(b -> out.append(String.format(" %9d ms", startups.getOrDefault(b, 0L))));
+        out.append(String.format("%n%-28s", "footprint per session"));
+        browsers.forEach(b -> out.append(String.format(" %5dMB/%.1fc", footprint.rssMb(b), footprint.cpuCores(b))));
+        out.append(String.format("%nHeld back %d times for memory and %d times for CPU (budget %d MB, %.1f cores)%n",
+                heldForMemory, heldForCpu, memoryBudgetMb, cpuBudget));
+
+        for (Result result : results) {
+            if (result.error != null) {
+                out.append(String.format("FAIL %s on %s: %s%n", result.job.scenario.name(), result.job.browser, result.error));
+            }
+        }
+        return out.toString();
+    }
+
+    private static final class Job {
+        final Scenario scenario;
+        final String browser;
+        // what admitting it reserved
+        long rssMb;
+        double cpuCores;
+
+        Job(Scenario scenario, String browser) {
+            this.scenario = scenario;
+            this.browser = browser;
+        }
+    }
+
+    private static final class Result {
+        final Job job;
+        final long startNanos;
+        final long runNanos;
+        final String error;
+
+        Result(Job job, long startNanos, long runNanos, String error) {
+            this.job = job;
+            this.startNanos = startNanos;
+            this.runNanos = runNanos;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * driver.get blocks until every image and script of the page is loaded, even when
+ * the flow only needs one input field. Navigation lets each call say how much of
+ * the page it needs and what "ready" means for it:
+ *
+ * <pre>
+ * Navigation.to(driver, url, PageLoadStrategy.EAGER,
+ *         ExpectedConditions.elementToBeClickable(By.id("ctl00_mainContent_ddl_originStation1_CTXT")));
+ * </pre>
+ *
+ * The session's page load strategy is fixed when the browser starts, so starting
+ * it with -Dpage.load.strategy=none (see {@link DriverFactory}) makes the browser
+ * return right away and this class does the waiting per navigation: NORMAL waits for
+ * readyState complete, EAGER for interactive, NONE not at all, then the readiness
+ * condition. On a session that was started with the default NORMAL strategy the
+ * browser already waited for the full load and only the condition is checked.
+ * On a NONE session the page being left is marked with a script first, so its
+ * readyState is not taken for the new page's; where the mark fails the wait also
+ * holds until the URL has changed.
+ *
+ * A navigation that times out is always recorded in {@link PageReadiness}. When a
+ * readiness condition was given the TimeoutException is then rethrown, the flow
+ * cannot go on against a page that is not what it asked for; a document-only wait
+ * that times out is recorded and the flow carries on with whatever is loaded.
+ *
+ * {@link #prefetch} loads the next page of a flow in a background tab while the
+ * current page is still being used, {@link Prefetch#open} then switches to it.
+ */
+public final class Navigation {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration POLL = Duration.ofMillis(50);
+
+    private Navigation() {
+    }
+
+    /** Navigates and waits for the document only, as far as {@code strategy} asks. */
+    public static void to(WebDriver driver, String url, PageLoadStrategy strategy) {
+        to(driver, url, strategy, null);
+    }
+
+    /**
+     * Navigates, waits for the document as far as {@code strategy} asks, then until {@code ready} holds.
+     * Throws the TimeoutException when {@code ready} does not hold in time.
+     */
+    public static void to(WebDriver driver, String url, PageLoadStrategy strategy, ExpectedCondition<?> ready) {
+        to(driver, url, strategy, ready, DEFAULT_TIMEOUT);
+    }
+
+    public static void to(WebDriver driver, String url, PageLoadStrategy strategy, ExpectedCondition<?> ready, Duration timeout) {
+        long start = System.nanoTime();
+        // tell the page we are leaving apart, so its readyState is not mistaken for the new one's
+        Leaving leaving = sessionStrategy(driver) == PageLoadStrategy.NONE ? Leaving.of(driver, url) : Leaving.NOTHING;
+        driver.navigate().to(url);
+        TimeoutException timedOut = await(driver, leaving, strategy, ready, timeout);
+        PageReadiness.stats().record("navigate " + strategy.toString().toLowerCase() + " " + label(url), System.nanoTime() - start, timedOut != null);
+        failIfNotReady(timedOut, ready);
+    }
+
+    /** Condition for the most common predicate: the element is there, visible and enabled. */
+    public static ExpectedCondition<?> interactable(By locator) {
+        return ExpectedConditions.elementToBeClickable(locator);
+    }
+
+    /** Starts loading {@code url} in a background tab, the current tab keeps the focus. */
+    public static Prefetch prefetch(WebDriver driver, String url) {
+        String current = driver.getWindowHandle();
+        Set<String> before = new HashSet<>(driver.getWindowHandles());
+        ((JavascriptExecutor) driver).executeScript("window.open(arguments[0], '_blank');", url);
+        Set<String> after = new HashSet<>(driver.getWindowHandles());
+        after.removeAll(before);
+        if (after.isEmpty()) {
+            // popup blocked, open() falls back to a plain navigation
+            return new Prefetch(driver, url, current, null);
+        }
+        // some drivers follow the new window, the flow must stay where it was
+        driver.switchTo().window(current);
+        return new Prefetch(driver, url, current, after.iterator().next());
+    }
+
+    /** A page loading in a background tab. */
+    public static final class Prefetch {
+
+        private final WebDriver driver;
+        private final String url;
+        private final String origin;
+        private final String tab;
+
+        private Prefetch(WebDriver driver, String url, String origin, String tab) {
+            this.driver = driver;
+            this.url = url;
+            this.origin = origin;
+            this.tab = tab;
+        }
+
+        /**
+         * Closes the current tab and continues in the prefetched one, which is usually loaded by now.
+         * Throws the TimeoutException when {@code ready} does not hold in time, as {@link Navigation#to} does.
+         */
+        public void open(PageLoadStrategy strategy, ExpectedCondition<?> ready) {
+            if (tab == null) {
+                to(driver, url, strategy, ready);
+                return;
+            }
+            long start = System.nanoTime();
+            driver.switchTo().window(origin);
+            driver.close();
+            driver.switchTo().window(tab);
+            // a tab of its own, there is no old document in it
+            TimeoutException timedOut = await(driver, Leaving.NOTHING, strategy, ready, DEFAULT_TIMEOUT);
+            PageReadiness.stats().record("prefetched " + strategy.toString().toLowerCase() + " " + label(url), System.nanoTime() - start, timedOut != null);
+            failIfNotReady(timedOut, ready);
+        }
+
+        /** Throws the background tab away, the flow decided not to go there. */
+        public void cancel() {
+            if (tab == null) {
+                return;
+            }
+            String current = driver.getWindowHandle();
+            driver.switchTo().window(tab);
+            driver.close();
+            driver.switchTo().window(current.equals(tab) ? origin : current);
+        }
+    }
+
+    // the timeout is handed back rather than thrown, so the caller records it first
+    private static TimeoutException await(WebDriver driver, Leaving leaving, PageLoadStrategy strategy, ExpectedCondition<?> ready, Duration timeout) {
+        WebDriverWait wait = new WebDriverWait(driver, timeout, POLL);
+        wait.ignoring(WebDriverException.class);
+        try {
+            if (strategy != PageLoadStrategy.NONE) {
+                wait.until(d -> documentReady(d, leaving, strategy));
+            }
+            if (ready != null) {
+                wait.until(ready);
+            }
+            return null;
+        } catch (TimeoutException e) {
+            return e;
+        }
+    }
+
+    private static void failIfNotReady(TimeoutException timedOut, ExpectedCondition<?> ready) {
+        if (timedOut != null && ready != null) {
+            throw timedOut;
+        }
+    }
+
+    private static boolean documentReady(WebDriver driver, Leaving leaving, PageLoadStrategy strategy) {
+        if (leaving.marker == null && leaving.url != null && leaving.url.equals(driver.getCurrentUrl())) {
+            // the old page could not be marked and is still the one showing
+            return false;
+        }
+        Object state = leaving.marker == null
+                ? ((JavascriptExecutor) driver).executeScript("return document.readyState;")
+                : ((JavascriptExecutor) driver).executeScript(
+                        "return window.__saadNav === arguments[0] ? 'old' : document.readyState;", leaving.marker);
+        if ("complete".equals(state)) {
+            return true;
+        }
+        return strategy == PageLoadStrategy.EAGER && "interactive".equals(state);
+    }
+
+    // the document a navigation leaves: marked with a script when it can be, else known by its URL
+    private static final class Leaving {
+        static final Leaving NOTHING = new Leaving(null, null);
+
+        final String marker;
+        // only set when the marker is missing and the URL is expected to change
+        final String url;
+
+        private Leaving(String marker, String url) {
+            this.marker = marker;
+            this.url = url;
+        }
+
+        static Leaving of(WebDriver driver, String target) {
+            String marker = UUID.randomUUID().toString();
+            try {
+                ((JavascriptExecutor) driver).executeScript("window.__saadNav = arguments[0];", marker);
+                return new Leaving(marker, null);
+            } catch (WebDriverException e) {
+                // about:blank or a page that is still loading: wait for the URL to change instead
+            }
+            try {
+                String url = driver.getCurrentUrl();
+                // going to the URL already shown, a changed URL is not going to tell the pages apart
+                return url == null || url.equals(target) ? NOTHING : new Leaving(null, url);
+            } catch (WebDriverException e) {
+                return NOTHING;
+            }
+        }
+    }
+
+    private static PageLoadStrategy sessionStrategy(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return PageLoadStrategy.NORMAL;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        Object value = capabilities.getCapability("pageLoadStrategy");
+        PageLoadStrategy strategy = value == null ? null : PageLoadStrategy.fromString(value.toString());
+        return strategy == null ? PageLoadStrategy.NORMAL : strategy;
+    }
+
+    // the path is enough to tell the waits apart and keeps the summary columns aligned
+    private static String label(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path == null || path.isEmpty() ? url : path;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Blocks (and optionally throttles) requests of a {@link NetworkProfile} on Chromium drivers through raw
+ * DevTools commands (no version specific devtools classes), and counts per page
+ * how many requests and bytes were loaded and how many were saved.
+ *
+ * <pre>
+ * try (NetworkPolicy policy = NetworkPolicy.apply(driver, NetworkProfile.ASSERTIONS_ONLY)) {
+ *     driver.get("https://www.spicejet.com/");
+ *     ...
+ *     System.out.print(policy.report());
+ * }
+ * </pre>
+ *
+ * URL patterns go through Network.setBlockedURLs and resource types through
+ * Fetch.enable with one pattern per type, so only requests that will be failed
+ * ever pause. Saved bytes are an estimate: the size a URL had the last time this
+ * JVM saw it load (e.g. under FULL), unknown URLs count in blockedUnknownSize. The
+ * JVM remembers the sizes of the last 10000 URLs it saw. Only a new document in the
+ * top frame starts a new page, iframe documents count under the page holding them.
+ * Drivers without DevTools (Firefox, HtmlUnit) get a policy that does nothing.
+ * Close the policy before the driver goes back to a pool; close() never throws, a
+ * session that is already gone has nothing left to lift.
+ *
+ * DevTools can only drop all listeners of a session at once, which would also
+ * take those of other code. So every session gets one listener per event, added
+ * with the first policy, that hands events to the policies open on it; closing a
+ * policy only takes it off that list. The Network and Fetch settings are per
+ * session, open one policy at a time.
+ */
+public final class NetworkPolicy implements AutoCloseable {
+
+    /** Counters for one top-level page. */
+    public static final class PageStats {
+        public long requests;
+        public long bytesLoaded;
+        public long blocked;
+        public long bytesSaved;
+        public long blockedUnknownSize;
+    }
+
+    private static final int KNOWN_SIZES_MAX = 10_000;
+    // encoded size of the URLs seen loading, shared so a FULL run teaches later blocked runs;
+    // least recently used first out, so a long run of many pages does not grow it without end
+    private static final Map<String, Long> KNOWN_SIZES = Collections.synchronizedMap(
+            new LinkedHashMap<String, Long>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > KNOWN_SIZES_MAX;
+                }
+            });
+    // per DevTools session the policies its listeners hand events to, dropped with the driver
+    private static final Map<DevTools, List<NetworkPolicy>> OPEN = new WeakHashMap<>();
+
+    private final DevTools devTools;
+    private final NetworkProfile profile;
+    // requests in flight, by requestId
+    private final Map<String, String> urls = new ConcurrentHashMap<>();
+    private final Map<String, PageStats> pages = new LinkedHashMap<>();
+    private volatile String currentPage = "(before first navigation)";
+    // id of the top frame, from Page.getFrameTree or else the first document seen
+    private volatile String mainFrame;
+    private boolean throttled;
+
+    private NetworkPolicy(DevTools devTools, NetworkProfile profile) {
+        this.devTools = devTools;
+        this.profile = profile;
+    }
+
+    public static NetworkPolicy apply(WebDriver driver, NetworkProfile profile) {
+        if (!(driver instanceof HasDevTools)) {
+            return new NetworkPolicy(null, profile);
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        NetworkPolicy policy = new NetworkPolicy(devTools, profile);
+        policy.start();
+        return policy;
+    }
+
+    public boolean active() {
+        return devTools != null;
+    }
+
+    private void start() {
+        synchronized (OPEN) {
+            List<NetworkPolicy> open = OPEN.get(devTools);
+            if (open == null) {
+                open = new CopyOnWriteArrayList<>();
+                OPEN.put(devTools, open);
+                listen(devTools, open);
+            }
+            open.add(this);
+        }
+        mainFrame = mainFrame();
+        devTools.send(command("Network.enable", Map.of()));
+        devTools.send(command("Network.setBlockedURLs", Map.of("urls", profile.blockedUrls)));
+        if (!profile.blockedTypes.isEmpty()) {
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (String type : profile.blockedTypes) {
+                patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request"));
+            }
+            devTools.send(command("Fetch.enable", Map.of("patterns", patterns)));
+        }
+        String throttle = Config.get("network.throttle", "");
+        if (!throttle.isEmpty()) {
+            String[] parts = throttle.split(",");
+            try {
+                if (parts.length != 3) {
+                    throw new NumberFormatException(parts.length + " parts");
+                }
+                throttle(Long.parseLong(parts[0].trim()), Long.parseLong(parts[1].trim()), Long.parseLong(parts[2].trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("-Dnetwork.throttle expects latencyMs,downKbps,upKbps: " + throttle, e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String mainFrame() {
+        try {
+            Map<String, Object> tree = devTools.send(new Command<>("Page.getFrameTree", Map.of(), input -> input.read(Json.MAP_TYPE)));
+            Map<String, Object> frame = (Map<String, Object>) ((Map<String, Object>) tree.get("frameTree")).get("frame");
+            return String.valueOf(frame.get("id"));
+        } catch (WebDriverException | ClassCastException | NullPointerException e) {
+            // onRequest takes the frame of the first document instead
+            return null;
+        }
+    }
+
+    /**
+     * Emulates a slower link on top of the blocking, e.g. throttle(150, 1600, 750) for
+     * "fast 3G", to see what the saved bytes are worth on a slow connection.
+     * -Dnetwork.throttle=latencyMs,downKbps,upKbps does the same from the command line.
+     */
+    public NetworkPolicy throttle(long latencyMs, long downKbps, long upKbps) {
+        if (active()) {
+            devTools.send(command("Network.emulateNetworkConditions", Map.of(
+                    "offline", false,
+                    "latency", latencyMs,
+                    "downloadThroughput", downKbps * 1024 / 8,
+                    "uploadThroughput", upKbps * 1024 / 8)));
+            throttled = true;
+        }
+        return this;
+    }
+
+    private static void listen(DevTools devTools, List<NetworkPolicy> open) {
+        devTools.addListener(event("Network.requestWillBeSent"), e -> open.forEach(policy -> policy.onRequest(e)));
+        devTools.addListener(event("Network.loadingFinished"), e -> open.forEach(policy -> policy.onFinished(e)));
+        devTools.addListener(event("Network.loadingFailed"), e -> open.forEach(policy -> policy.onFailed(e)));
+        // a paused request is failed once, by the policy whose Fetch.enable is in force
+        devTools.addListener(event("Fetch.requestPaused"), e -> open.stream()
+                .filter(policy -> !policy.profile.blockedTypes.isEmpty())
+                .reduce((first, second) -> second)
+                .ifPresent(policy -> policy.onPaused(e)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequest(Map<String, Object> event) {
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        String url = String.valueOf(request.get("url"));
+        urls.put(String.valueOf(event.get("requestId")), url);
+        Object frameId = event.get("frameId");
+        if ("Document".equals(event.get("type")) && frameId != null
+                && String.valueOf(event.get("loaderId")).equals(String.valueOf(event.get("requestId")))) {
+            if (mainFrame == null) {
+                mainFrame = String.valueOf(frameId);
+            }
+            if (mainFrame.equals(String.valueOf(frameId))) {
+                // a new top-level document starts, count what follows under it
+                currentPage = url;
+            }
+        }
+        synchronized (pages) {
+            page().requests++;
+        }
+    }
+
+    private void onFinished(Map<String, Object> event) {
+        long size = ((Number) event.getOrDefault("encodedDataLength", 0)).longValue();
+        String url = urls.remove(String.valueOf(event.get("requestId")));
+        if (url != null) {
+            KNOWN_SIZES.put(url, size);
+        }
+        synchronized (pages) {
+            page().bytesLoaded += size;
+        }
+    }
+
+    private void onFailed(Map<String, Object> event) {
+        // every failed request leaves the in-flight map, blocked or not
+        String url = urls.remove(String.valueOf(event.get("requestId")));
+        String error = String.valueOf(event.get("errorText"));
+        boolean blocked = event.get("blockedReason") != null || error.contains("BLOCKED_BY_CLIENT");
+        if (!blocked) {
+            return;
+        }
+        Long size = url == null ? null : KNOWN_SIZES.get(url);
+        synchronized (pages) {
+            PageStats stats = page();
+            stats.blocked++;
+            if (size == null) {
+                stats.blockedUnknownSize++;
+            } else {
+                stats.bytesSaved += size;
+            }
+        }
+    }
+
+    // only the blocked resource types pause here, fail them before they go out
+    private void onPaused(Map<String, Object> event) {
+        devTools.send(command("Fetch.failRequest", Map.of("requestId", event.get("requestId"), "errorReason", "BlockedByClient")));
+    }
+
+    private PageStats page() {
+        return pages.computeIfAbsent(currentPage, p -> new PageStats());
+    }
+
+    public Map<String, PageStats> pages() {
+        synchronized (pages) {
+            return new LinkedHashMap<>(pages);
+        }
+    }
+
+    public String report() {
+        if (!active()) {
+            return "NetworkPolicy " + profile + ": driver has no DevTools, nothing blocked" + System.lineSeparator();
+        }
+        StringBuilder out = new StringBuilder("NetworkPolicy " + profile + System.lineSeparator());
+        pages().forEach((url, stats) -> out.append(String.format(
+                "  %s%n    requests=%d loaded=%dKB blocked=%d saved~%dKB (+%d of unknown size)%n",
+                url, stats.requests, stats.bytesLoaded / 1024, stats.blocked, stats.bytesSaved / 1024, stats.blockedUnknownSize)));
+        return out.toString();
+    }
+
+    /** Lifts every block and stops listening, so the driver is back to normal. Never throws. */
+    @Override
+    public void close() {
+        if (!active()) {
+            return;
+        }
+        synchronized (OPEN) {
+            List<NetworkPolicy> open = OPEN.get(devTools);
+            if (open != null) {
+                open.remove(this);
+            }
+        }
+        urls.clear();
+        if (!profile.blockedTypes.isEmpty()) {
+            sendQuietly(command("Fetch.disable", Map.of()));
+        }
+        sendQuietly(command("Network.setBlockedURLs", Map.of("urls", List.of())));
+        if (throttled) {
+            // -1 lifts the throughput limits
+            sendQuietly(command("Network.emulateNetworkConditions", Map.of(
+                    "offline", false, "latency", 0, "downloadThroughput", -1, "uploadThroughput", -1)));
+        }
+        sendQuietly(command("Network.disable", Map.of()));
+    }
+
+    // close() runs in finally blocks, a failure here must not replace the flow's own
+    private void sendQuietly(Command<Void> command) {
+        try {
+            devTools.send(command);
+        } catch (WebDriverException e) {
+            // the session or the browser is gone, DevToolsException included
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static Command<Void> command(String method, Map<String, Object> params) {
+        return new Command<>(method, params);
+    }
+}
@@ -0,0 +1,52 @@
+package org.saad.Framework;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Named sets of requests to block while a page loads, see {@link NetworkPolicy}.
+ * -Dnetwork.profile=full|no-media|assertions-only overrides the profile a flow asks for.
+ */
+public enum NetworkProfile {
+
+    // load everything, like a normal browser
+    FULL(List.of(), List.of()),
+
+    // skip what only matters to the eye
+    NO_MEDIA(List.of("Image", "Font", "Media"), List.of()),
+
+    // what our assertions never look at: media plus ads, analytics and chat widgets
+    ASSERTIONS_ONLY(List.of("Image", "Font", "Media"), List.of(
+            "*google-analytics.com*",
+            "*googletagmanager.com*",
+            "*doubleclick.net*",
+            "*googlesyndication.com*",
+            "*facebook.net*",
+            "*connect.facebook*",
+            "*hotjar.com*",
+            "*clarity.ms*",
+            "*adservice.google*",
+            "*newrelic.com*",
+            "*nr-data.net*",
+            "*moengage*",
+            "*.mp4*"));
+
+    /** CDP resource types (Image, Font, Media, Stylesheet, Script, ...) to fail before they are sent. */
+    public final List<String> blockedTypes;
+    /** Network.setBlockedURLs patterns, '*' matches anything. */
+    public final List<String> blockedUrls;
+
+    NetworkProfile(List<String> blockedTypes, List<String> blockedUrls) {
+        this.blockedTypes = blockedTypes;
+        this.blockedUrls = blockedUrls;
+    }
+
+    /** The profile from -Dnetwork.profile, or {@code fallback} when it is not set. */
+    public static NetworkProfile fromConfig(NetworkProfile fallback) {
+        String name = Config.get("network.profile", "");
+        if (name.isEmpty()) {
+            return fallback;
+        }
+        return valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
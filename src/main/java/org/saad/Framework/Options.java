@@ -0,0 +1,105 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Picks an option from an autosuggest list or a &lt;select&gt; with the matching
+ * done inside the browser, so it is one WebDriver call whether the list has 5
+ * or 500 entries. Works next to {@link org.openqa.selenium.support.ui.Select},
+ * which asks the browser about every option one by one.
+ *
+ * <pre>
+ * Options.pick(driver, By.xpath("//li[@class='ui-menu-item'] //a"), "India", Options.Match.IGNORE_CASE);
+ * Options.select(driver, driver.findElement(By.id("dropdown-class-example")), "Option1", Options.Match.EXACT);
+ * </pre>
+ */
+public final class Options {
+
+    public enum Match {
+        EXACT,
+        IGNORE_CASE,
+        // starts with the text, ignoring case
+        PREFIX,
+        // JavaScript regular expression tested against the option text
+        REGEX
+    }
+
+    private static final String MATCH_FUNCTION =
+            "function __saadMatches(text, wanted, mode) {"
+            + "  text = (text || '').trim();"
+            + "  if (mode === 'EXACT') { return text === wanted; }"
+            + "  if (mode === 'IGNORE_CASE') { return text.toLowerCase() === wanted.toLowerCase(); }"
+            + "  if (mode === 'PREFIX') { return text.toLowerCase().indexOf(wanted.toLowerCase()) === 0; }"
+            + "  return new RegExp(wanted).test(text);"
+            + "}";
+
+    private static final String PICK_SCRIPT = JsLocator.FIND_FUNCTION + MATCH_FUNCTION
+            + "var found = __saadFind(arguments[0], arguments[1]);"
+            + "for (var i = 0; i < found.length; i++) {"
+            + "  if (__saadMatches(found[i].innerText, arguments[2], arguments[3])) {"
+            + "    if (arguments[4]) { found[i].click(); }"
+            + "    return found[i];"
+            + "  }"
+            + "}"
+            + "return null;";
+
+    private static final String SELECT_SCRIPT = MATCH_FUNCTION
+            + "var select = arguments[0];"
+            + "for (var i = 0; i < select.options.length; i++) {"
+            + "  if (__saadMatches(select.options[i].text, arguments[1], arguments[2])) {"
+            + "    select.selectedIndex = i;"
+            + "    select.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "    select.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "    return select.options[i].text;"
+            + "  }"
+            + "}"
+            + "return null;";
+
+    private Options() {
+    }
+
+    /** First element of the {@code options} result whose text matches, without clicking it. */
+    public static WebElement find(WebDriver driver, By options, String text, Match match) {
+        return run(driver, options, text, match, false);
+    }
+
+    /** Finds the first matching option and clicks it in the same call. */
+    public static WebElement pick(WebDriver driver, By options, String text, Match match) {
+        return run(driver, options, text, match, true);
+    }
+
+    /**
+     * Like {@link #pick}, but when no option matches it clicks nothing and returns
+     * false, as a loop over findElements that never hits its if does.
+     */
+    public static boolean tryPick(WebDriver driver, By options, String text, Match match) {
+        return script(driver, options, text, match, true) != null;
+    }
+
+    /** Selects the first matching &lt;option&gt; of a &lt;select&gt; and fires input/change, returns its text. */
+    public static String select(WebDriver driver, WebElement select, String text, Match match) {
+        Object selected = ((JavascriptExecutor) driver).executeScript(SELECT_SCRIPT, select, text, match.name());
+        if (selected == null) {
+            throw new NoSuchElementException("No option matching '" + text + "' (" + match + ") in " + select);
+        }
+        return (String) selected;
+    }
+
+    private static WebElement run(WebDriver driver, By options, String text, Match match, boolean click) {
+        WebElement found = script(driver, options, text, match, click);
+        if (found == null) {
+            throw new NoSuchElementException("No option matching '" + text + "' (" + match + ") in " + options);
+        }
+        return found;
+    }
+
+    private static WebElement script(WebDriver driver, By options, String text, Match match, boolean click) {
+        String[] using = JsLocator.of(options);
+        return (WebElement) ((JavascriptExecutor) driver)
+                .executeScript(PICK_SCRIPT, using[0], using[1], text, match.name(), click);
+    }
+}
@@ -0,0 +1,121 @@
+package org.saad.Framework;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Which pages a scenario opens and what they look like, for {@link ResultCache}.
+ *
+ * Every URL a flow passes through {@link Sites#resolve(String)} while recording is
+ * on (per thread) is remembered as its live URL, so a cache entry written against
+ * the embedded fixture server still matches on the next run with another port.
+ * A page hash is SHA-256 over the HTML as served plus every script and stylesheet
+ * it references, fetched with plain HTTP (no browser). Pages reached by clicking a
+ * link are not seen, and pages that render a fresh token into every response
+ * hash differently each time, so their scenarios simply always run.
+ */
+public final class PageFingerprints {
+
+    // what a page that could not be fetched hashes to, never equal to a stored hash
+    static final String UNREACHABLE = "unreachable";
+
+    private static final Pattern ASSET = Pattern.compile(
+            "<(?:script[^>]*\\ssrc|link[^>]*\\shref)\\s*=\\s*[\"']([^\"'#]+)", Pattern.CASE_INSENSITIVE);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static final ThreadLocal<Set<String>> VISITED = new ThreadLocal<>();
+    // one fetch per URL and run, many scenarios open the same practice page
+    private static final Map<String, String> HASHES = new ConcurrentHashMap<>();
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private PageFingerprints() {
+    }
+
+    public static void startRecording() {
+        VISITED.set(new LinkedHashSet<>());
+    }
+
+    /** The live URLs opened on this thread since {@link #startRecording()}. */
+    public static Set<String> stopRecording() {
+        Set<String> visited = VISITED.get();
+        VISITED.remove();
+        return visited == null ? Set.of() : visited;
+    }
+
+    static void visited(String liveUrl) {
+        Set<String> visited = VISITED.get();
+        if (visited != null) {
+            visited.add(stripFragment(liveUrl));
+        }
+    }
+
+    /** Hash of the page behind {@code liveUrl} as this run would open it, or {@link #UNREACHABLE}. */
+    public static String hash(String liveUrl) {
+        return HASHES.computeIfAbsent(liveUrl, PageFingerprints::fetch);
+    }
+
+    private static String fetch(String liveUrl) {
+        try {
+            URI page = URI.create(Sites.resolve(liveUrl));
+            String html = get(page);
+            if (html == null) {
+                return UNREACHABLE;
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(html.getBytes(StandardCharsets.UTF_8));
+            // sorted, so moving a tag around does not count as a change of the asset itself
+            Set<String> assets = new TreeSet<>();
+            Matcher matcher = ASSET.matcher(html);
+            while (matcher.find()) {
+                assets.add(page.resolve(matcher.group(1).trim()).toString());
+            }
+            for (String asset : assets) {
+                String body = get(URI.create(asset));
+                digest.update((asset + '\n' + (body == null ? UNREACHABLE : body)).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IllegalArgumentException e) {
+            return UNREACHABLE;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String get(URI uri) {
+        if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+            return null;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(TIMEOUT).GET().build();
+            HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() / 100 == 2 ? response.body() : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String stripFragment(String url) {
+        int hash = url.indexOf('#');
+        return hash < 0 ? url : url.substring(0, hash);
+    }
+}
@@ -0,0 +1,133 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits until a page is really ready instead of sleeping a fixed time.
+ *
+ * A page counts as ready when document.readyState is complete, no XHR/fetch
+ * request is in flight, the DOM had no mutation for a short quiet window, no
+ * finite CSS transition/animation is running (sliding panels) and Angular
+ * (angularpractice) reports itself stable. The XHR/fetch hooks and the
+ * MutationObserver are injected on the first check of every new document, so
+ * requests started before that first check are not seen.
+ *
+ * The wait is best effort like the Thread.sleep it replaces: pages that never go
+ * quiet (ads, live carousels) continue after the timeout, and that is counted in
+ * {@link #stats()}.
+ *
+ * Every wait is a step for {@link Screenshots} (-Dscreenshots=on-step|sampled).
+ */
+public final class PageReadiness {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_QUIET = Duration.ofMillis(250);
+    private static final Duration POLL = Duration.ofMillis(50);
+
+    private static final WaitStats STATS = new WaitStats();
+
+    private static final String CHECK_SCRIPT =
+            "var r = window.__saadReady;"
+            + "if (!r) {"
+            + "  r = window.__saadReady = {pending: 0, lastChange: Date.now()};"
+            + "  var touch = function () { r.lastChange = Date.now(); };"
+            + "  new MutationObserver(touch).observe(document, {subtree: true, childList: true, attributes: true, characterData: true});"
+            + "  var send = XMLHttpRequest.prototype.send;"
+            + "  XMLHttpRequest.prototype.send = function () {"
+            + "    r.pending++; touch();"
+            + "    this.addEventListener('loadend', function () { r.pending--; touch(); });"
+            + "    return send.apply(this, arguments);"
+            + "  };"
+            + "  if (window.fetch) {"
+            + "    var f = window.fetch;"
+            + "    window.fetch = function () {"
+            + "      r.pending++; touch();"
+            + "      return f.apply(this, arguments).finally(function () { r.pending--; touch(); });"
+            + "    };"
+            + "  }"
+            + "}"
+            + "var angularStable = true;"
+            + "if (window.getAllAngularTestabilities) {"
+            + "  angularStable = window.getAllAngularTestabilities().every(function (t) { return t.isStable(); });"
+            + "} else if (window.angular && window.angular.element) {"
+            + "  try {"
+            + "    var injector = window.angular.element(document.body).injector();"
+            + "    angularStable = !injector || injector.get('$http').pendingRequests.length === 0;"
+            + "  } catch (e) {}"
+            + "}"
+            + "var animating = !!document.getAnimations && document.getAnimations().some(function (a) {"
+            + "  return a.playState === 'running' && !(a.effect && a.effect.getTiming().iterations === Infinity);"
+            + "});"
+            + "return {readyState: document.readyState, pending: r.pending, animating: animating,"
+            + "        quietMs: Date.now() - r.lastChange, angularStable: angularStable};";
+
+    private PageReadiness() {
+    }
+
+    public static void await(WebDriver driver) {
+        await(driver, "page");
+    }
+
+    public static void await(WebDriver driver, String label) {
+        await(driver, label, DEFAULT_TIMEOUT, DEFAULT_QUIET);
+    }
+
+    public static void await(WebDriver driver, String label, Duration timeout, Duration quiet) {
+        long start = System.nanoTime();
+        boolean ready = poll(driver, timeout, () -> isReady(driver, quiet));
+        STATS.record(label, System.nanoTime() - start, !ready);
+        Screenshots.get().step(driver, label);
+    }
+
+    /** Waits for the page to settle and for at least one element matching {@code locator} to exist. */
+    public static void awaitElement(WebDriver driver, By locator) {
+        awaitElement(driver, locator, locator.toString(), DEFAULT_TIMEOUT);
+    }
+
+    public static void awaitElement(WebDriver driver, By locator, String label, Duration timeout) {
+        long start = System.nanoTime();
+        boolean ready = poll(driver, timeout,
+                () -> isReady(driver, DEFAULT_QUIET) && !driver.findElements(locator).isEmpty());
+        STATS.record(label, System.nanoTime() - start, !ready);
+        Screenshots.get().step(driver, label);
+    }
+
+    public static WaitStats stats() {
+        return STATS;
+    }
+
+    private static boolean poll(WebDriver driver, Duration timeout, BooleanSupplier condition) {
+        // findElements must answer right away while polling, not after the flow's implicit wait
+        Duration implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            WebDriverWait wait = new WebDriverWait(driver, timeout, POLL);
+            wait.ignoring(WebDriverException.class);
+            wait.until(d -> condition.getAsBoolean());
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean isReady(WebDriver driver, Duration quiet) {
+        Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CHECK_SCRIPT);
+        return "complete".equals(state.get("readyState"))
+                && ((Number) state.get("pending")).longValue() <= 0
+                && ((Number) state.get("quietMs")).longValue() >= quiet.toMillis()
+                && !Boolean.TRUE.equals(state.get("animating"))
+                && Boolean.TRUE.equals(state.get("angularStable"));
+    }
+}
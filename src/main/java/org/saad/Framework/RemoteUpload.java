@@ -0,0 +1,260 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * File uploads that also work for big files on a Grid.
+ *
+ * <pre>
+ * RemoteUpload.sendFile(driver, driver.findElement(By.cssSelector("input[type='file']")), Path.of("video.mp4"));
+ * </pre>
+ *
+ * A local browser gets the path as before (sendKeys). For a remote session
+ * LocalFileDetector would zip and base64 the whole file in memory and post it as
+ * one JSON string. Here the same request to /session/{id}/se/file is produced
+ * while it is sent: file -&gt; zip -&gt; base64 -&gt; pipe -&gt; HTTP body with chunked
+ * transfer encoding, so only the pipe buffer ({@link #PIPE_BUFFER}) is in memory
+ * whatever the file size. The WebDriver protocol has no command to send a file in
+ * parts, so the node still receives one request (and the Grid buffers it on its
+ * side); what is chunked is the transfer.
+ *
+ * Every file sent to a session is remembered by SHA-256 of its content and its
+ * name (the page sees the name), so sending it again to the same session, e.g. a
+ * pooled browser in the next scenario, reuses the copy already on the node.
+ *
+ * Try it against a standalone Grid (java -jar selenium-server.jar standalone):
+ * mvn compile exec:java -Dexec.mainClass=org.saad.Framework.RemoteUpload -Dgrid.url=http://localhost:4444 -Dexec.args=big.file
+ */
+public final class RemoteUpload {
+
+    static final int PIPE_BUFFER = 256 * 1024;
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    // per session: "sha256 name" -> path of the file on the node, dropped with the driver
+    private static final Map<RemoteWebDriver, Map<String, String>> UPLOADED = new WeakHashMap<>();
+
+    private static final AtomicLong UPLOADS = new AtomicLong();
+    private static final AtomicLong REUSED = new AtomicLong();
+    private static final AtomicLong BYTES = new AtomicLong();
+
+    private RemoteUpload() {
+    }
+
+    /** Puts {@code file} into the file input, uploading it to the node first when the browser is remote. */
+    public static void sendFile(WebDriver driver, WebElement fileInput, Path file) {
+        RemoteWebDriver remote = remote(driver);
+        fileInput.sendKeys(remote == null ? file.toAbsolutePath().toString() : toNode(remote, file));
+    }
+
+    /** The path of {@code file} on the node of this remote session, uploaded unless the session has it already. */
+    public static String toNode(RemoteWebDriver driver, Path file) {
+        String key = sha256(file) + ' ' + file.getFileName();
+        Map<String, String> uploaded;
+        synchronized (UPLOADED) {
+            uploaded = UPLOADED.computeIfAbsent(driver, d -> new ConcurrentHashMap<>());
+        }
+        String known = uploaded.get(key);
+        if (known != null) {
+            REUSED.incrementAndGet();
+            return known;
+        }
+        String onNode = upload(serverUrl(driver), driver.getSessionId().toString(), file);
+        uploaded.put(key, onNode);
+        UPLOADS.incrementAndGet();
+        try {
+            BYTES.addAndGet(Files.size(file));
+        } catch (IOException e) {
+            // only for the summary
+        }
+        return onNode;
+    }
+
+    static String upload(URI server, String sessionId, Path file) {
+        PipedInputStream body = new PipedInputStream(PIPE_BUFFER);
+        AtomicReference<IOException> writeFailure = new AtomicReference<>();
+        Thread writer;
+        try {
+            PipedOutputStream pipe = new PipedOutputStream(body);
+            writer = new Thread(() -> writeBody(file, pipe, writeFailure), "upload-" + file.getFileName());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writer.setDaemon(true);
+        writer.start();
+
+        HttpRequest request = HttpRequest.newBuilder(server.resolve("session/" + sessionId + "/se/file"))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json; charset=utf-8")
+                // no length known up front, so the client sends it chunked
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body))
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+            writer.join(TIMEOUT.toMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Upload of " + file + " to " + server + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while uploading " + file, e);
+        } finally {
+            // a writer still blocked on a pipe nobody reads any more fails instead of hanging
+            try {
+                body.close();
+            } catch (IOException e) {
+                // nothing left to release
+            }
+        }
+        if (writeFailure.get() != null) {
+            throw new UncheckedIOException("Cannot read " + file, writeFailure.get());
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Node refused upload of " + file + ": HTTP " + response.statusCode() + " " + response.body());
+        }
+        Map<String, Object> json = new Json().toType(response.body(), Json.MAP_TYPE);
+        Object value = json.get("value");
+        if (!(value instanceof String)) {
+            throw new IllegalStateException("Unexpected answer to upload of " + file + ": " + response.body());
+        }
+        return (String) value;
+    }
+
+    // {"file": "<base64 of a zip with the one file>"}, written as it is read
+    private static void writeBody(Path file, PipedOutputStream pipe, AtomicReference<IOException> failure) {
+        try (OutputStream out = pipe) {
+            out.write("{\"file\":\"".getBytes(StandardCharsets.US_ASCII));
+            // closing the base64 stream writes its last bytes, the pipe itself stays open for the closing brace
+            try (ZipOutputStream zip = new ZipOutputStream(Base64.getEncoder().wrap(new NonClosing(out)));
+                 InputStream in = Files.newInputStream(file)) {
+                // big uploads are mostly compressed already (video, archives), fast beats small here
+                zip.setLevel(Deflater.BEST_SPEED);
+                zip.putNextEntry(new ZipEntry(file.getFileName().toString()));
+                in.transferTo(zip);
+                zip.closeEntry();
+            }
+            out.write("\"}".getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            // also when the request failed and nobody reads the pipe any more, the send reports that
+            failure.set(e);
+        }
+    }
+
+    private static String sha256(Path file) {
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(((DigestInputStream) in).getMessageDigest().digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // the driver under CommandTimings and other decorators, null when it is not remote
+    private static RemoteWebDriver remote(WebDriver driver) {
+        WebDriver current = driver;
+        while (current instanceof WrapsDriver) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        // ChromeDriver & co. are RemoteWebDrivers too, but talk to a local driver service that sees local files
+        return current instanceof RemoteWebDriver && serverUrl((RemoteWebDriver) current) != null
+                ? (RemoteWebDriver) current : null;
+    }
+
+    // the Grid of the session, null for a local browser
+    private static URI serverUrl(RemoteWebDriver driver) {
+        String url = DriverFactory.gridOf(driver);
+        CommandExecutor executor = driver.getCommandExecutor();
+        // a RemoteWebDriver made elsewhere without tracing still says where it talks to,
+        // local drivers run a DriverCommandExecutor, a subclass bound to their driver service
+        if (url == null && executor.getClass() == HttpCommandExecutor.class) {
+            url = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().toString();
+        }
+        return url == null ? null : URI.create(url.endsWith("/") ? url : url + "/");
+    }
+
+    public static String summary() {
+        if (UPLOADS.get() == 0 && REUSED.get() == 0) {
+            return "";
+        }
+        return String.format("Remote uploads: %d sent (%d MB streamed), %d reused from the node%n",
+                UPLOADS.get(), BYTES.get() / (1024 * 1024), REUSED.get());
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0 || Config.gridUrl().isEmpty()) {
+            throw new IllegalArgumentException("Usage: -Dgrid.url=http://localhost:4444 RemoteUpload <file>");
+        }
+        Path file = Path.of(args[0]);
+        RemoteWebDriver driver = remote(DriverFactory.create());
+        if (driver == null) {
+            throw new IllegalStateException("-Dbrowser=" + Config.browser() + " did not start on the Grid");
+        }
+        try {
+            for (int i = 0; i < 2; i++) {
+                long start = System.nanoTime();
+                String onNode = toNode(driver, file);
+                System.out.printf("%s -> %s in %d ms%n", file, onNode, (System.nanoTime() - start) / 1_000_000);
+            }
+            System.out.print(summary());
+        } finally {
+            driver.quit();
+        }
+    }
+
+    // keeps the pipe open when the base64 encoder is closed
+    private static final class NonClosing extends FilterOutputStream {
+        NonClosing(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
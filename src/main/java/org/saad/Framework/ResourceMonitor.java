@@ -0,0 +1,170 @@
+package org.saad.Framework;
+
+import com.sun.management.OperatingSystemMXBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures what the local browsers cost while they run, for {@link MatrixRunner}.
+ *
+ * Every driver service (chromedriver, msedgedriver, geckodriver) is a child of
+ * this JVM and the browser it starts is below it, so a sample sums RSS and CPU
+ * time over each service's process tree, by browser, and divides by the sessions
+ * of that browser that are open. RSS comes from /proc/&lt;pid&gt;/status, so it is
+ * only measured on Linux; CPU time from ProcessHandle works everywhere. The host
+ * side (available memory, system CPU load) comes from /proc/meminfo or the
+ * OperatingSystemMXBean.
+ *
+ * htmlunit runs inside this JVM and has no process of its own, it keeps its
+ * {@link BrowserFootprint} estimate.
+ */
+public final class ResourceMonitor implements AutoCloseable {
+
+    private static final OperatingSystemMXBean OS =
+            (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private static final Map<String, String> SERVICES = Map.of(
+            "chromedriver", "chrome",
+            "msedgedriver", "edge",
+            "geckodriver", "firefox");
+
+    private final Map<String, AtomicInteger> sessions = new ConcurrentHashMap<>();
+    // highest per session usage seen in this run, by browser
+    private final Map<String, Long> peakRssMb = new ConcurrentHashMap<>();
+    private final Map<String, Double> peakCpuCores = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "resource-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // pid -> cpu nanos at the previous sample
+    private Map<Long, Long> lastCpu = new HashMap<>();
+    private long lastSample = System.nanoTime();
+
+    public ResourceMonitor(Duration period) {
+        sampler.scheduleAtFixedRate(this::sample, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void opened(String browser) {
+        sessions.computeIfAbsent(browser, b -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public void closed(String browser) {
+        sessions.get(browser).decrementAndGet();
+    }
+
+    /** Highest RSS per session of {@code browser} measured so far, 0 when never measured. */
+    public long peakRssMb(String browser) {
+        return peakRssMb.getOrDefault(browser, 0L);
+    }
+
+    /** Highest CPU use per session of {@code browser} measured so far, in cores. */
+    public double peakCpuCores(String browser) {
+        return peakCpuCores.getOrDefault(browser, 0.0);
+    }
+
+    public static int cores() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /** Memory the host can still hand out without swapping. */
+    public static long availableMemoryMb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/meminfo"))) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // not Linux, the MXBean below counts free memory only (no reclaimable cache) but is close enough
+        }
+        return OS.getFreeMemorySize() / (1024 * 1024);
+    }
+
+    /** Recent CPU load of the whole host, 0..1, 0 while the MXBean has no reading yet. */
+    public static double systemCpuLoad() {
+        return Math.max(0, OS.getCpuLoad());
+    }
+
+    private synchronized void sample() {
+        long now = System.nanoTime();
+        double elapsedNanos = now - lastSample;
+        Map<Long, Long> cpu = new HashMap<>();
+        Map<String, Long> rssKb = new HashMap<>();
+        Map<String, Long> cpuNanos = new HashMap<>();
+        ProcessHandle.current().children().forEach(service -> {
+            String browser = browserOf(service);
+            if (browser == null) {
+                return;
+            }
+            List<ProcessHandle> tree = new ArrayList<>();
+            tree.add(service);
+            service.descendants().forEach(tree::add);
+            for (ProcessHandle process : tree) {
+                rssKb.merge(browser, rssKb(process.pid()), Long::sum);
+                long total = process.info().totalCpuDuration().map(Duration::toNanos).orElse(0L);
+                cpu.put(process.pid(), total);
+                Long before = lastCpu.get(process.pid());
+                // a process that only showed up now has no interval to compare with
+                if (before != null && total >= before) {
+                    cpuNanos.merge(browser, total - before, Long::sum);
+                }
+            }
+        });
+        rssKb.forEach((browser, kb) -> {
+            int open = sessions.getOrDefault(browser, new AtomicInteger()).get();
+            if (open > 0 && kb > 0) {
+                peakRssMb.merge(browser, kb / 1024 / open, Math::max);
+            }
+        });
+        cpuNanos.forEach((browser, nanos) -> {
+            int open = sessions.getOrDefault(browser, new AtomicInteger()).get();
+            if (open > 0 && elapsedNanos > 0) {
+                peakCpuCores.merge(browser, nanos / elapsedNanos / open, Math::max);
+            }
+        });
+        lastCpu = cpu;
+        lastSample = now;
+    }
+
+    private static String browserOf(ProcessHandle process) {
+        String command = process.info().command().orElse("");
+        String name = Path.of(command).getFileName() == null ? "" : Path.of(command).getFileName().toString();
+        for (Map.Entry<String, String> service : SERVICES.entrySet()) {
+            if (name.startsWith(service.getKey())) {
+                return service.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static long rssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // gone already, or no /proc
+        }
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+}
@@ -0,0 +1,253 @@
+package org.saad.Framework;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers which scenarios passed against which inputs, so an incremental run
+ * (-Dincremental=true) only runs the scenarios whose inputs changed since their
+ * last pass. -Dfull.run=true runs everything and refreshes the cache.
+ *
+ * A scenario's fingerprint has two parts:
+ * code   SHA-256 over the bytecode of its class and every org.saad class reachable
+ *        from it (read from the constant pools, so an edit to Xpaths does not rerun
+ *        Locators but an edit to ElementCache reruns everything using it), the
+ *        browser it runs on and -Dsite.base
+ * pages  the hash of every page it opened in its last pass, see {@link PageFingerprints}
+ * The registered flows keep their rows in code (see Assigment02), a flow that
+ * starts reading a data file has to add that file to the code part.
+ *
+ * Only passes are stored, a failing scenario loses its entry and runs again next
+ * time. The cache lives in .history/result-cache.properties (-Dhistory.dir).
+ */
+public final class ResultCache {
+
+    private static final String PROJECT_PACKAGE = "org/saad/";
+    private static final Pattern DESCRIPTOR_CLASS = Pattern.compile("L(" + PROJECT_PACKAGE + "[\\w/$]+);");
+
+    private final Path file;
+    private final Map<String, String> code = new TreeMap<>();
+    private final Map<String, String> pages = new TreeMap<>();
+    // class name -> hash of that class' bytecode, shared by the closures of all scenarios
+    private final Map<String, String> classHashes = new ConcurrentHashMap<>();
+    private final Map<String, String> reasons = new LinkedHashMap<>();
+    private final List<String> skipped = new ArrayList<>();
+
+    private ResultCache(Path file) {
+        this.file = file;
+    }
+
+    public static boolean enabled() {
+        return Config.getBoolean("incremental", false) || Config.getBoolean("full.run", false);
+    }
+
+    public static ResultCache load() {
+        return load(HistoryFile.of("result-cache.properties"));
+    }
+
+    public static ResultCache load(Path file) {
+        ResultCache cache = new ResultCache(file);
+        Properties properties = HistoryFile.read(file);
+        for (String key : properties.stringPropertyNames()) {
+            if (key.endsWith(".code")) {
+                cache.code.put(key.substring(0, key.length() - ".code".length()), properties.getProperty(key));
+            } else if (key.endsWith(".pages")) {
+                cache.pages.put(key.substring(0, key.length() - ".pages".length()), properties.getProperty(key));
+            }
+        }
+        return cache;
+    }
+
+    /** The scenarios that have to run, all of them unless this is an incremental run without -Dfull.run. */
+    public synchronized List<Scenario> select(List<Scenario> scenarios) {
+        if (!Config.getBoolean("incremental", false) || Config.getBoolean("full.run", false)) {
+            return scenarios;
+        }
+        List<Scenario> toRun = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            String reason = changed(scenario);
+            if (reason == null) {
+                skipped.add(scenario.name());
+            } else {
+                reasons.put(scenario.name(), reason);
+                toRun.add(scenario);
+            }
+        }
+        return toRun;
+    }
+
+    public void passed(Scenario scenario, Set<String> visitedPages) {
+        String codeHash = codeHash(scenario);
+        // "url hash url hash ...", a raw URL never contains a space
+        StringBuilder pageHashes = new StringBuilder();
+        for (String url : new TreeSet<>(visitedPages)) {
+            String hash = PageFingerprints.hash(url);
+            if (PageFingerprints.UNREACHABLE.equals(hash)) {
+                // nothing to compare against next time, so no way to tell it is unchanged
+                failed(scenario);
+                return;
+            }
+            pageHashes.append(pageHashes.length() == 0 ? "" : " ").append(url).append(' ').append(hash);
+        }
+        synchronized (this) {
+            code.put(scenario.name(), codeHash);
+            pages.put(scenario.name(), pageHashes.toString());
+        }
+    }
+
+    public synchronized void failed(Scenario scenario) {
+        code.remove(scenario.name());
+        pages.remove(scenario.name());
+    }
+
+    public synchronized void save() {
+        Properties properties = new Properties();
+        code.forEach((name, hash) -> properties.setProperty(name + ".code", hash));
+        pages.forEach((name, hashes) -> properties.setProperty(name + ".pages", hashes));
+        HistoryFile.write(file, properties, "fingerprints of the last pass of each scenario");
+    }
+
+    public synchronized String summary() {
+        if (skipped.isEmpty() && reasons.isEmpty()) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(String.format("Incremental run: %d to run, %d unchanged since their last pass%n",
+                reasons.size(), skipped.size()));
+        reasons.forEach((name, reason) -> out.append(String.format("  run   %-28s %s%n", name, reason)));
+        skipped.forEach(name -> out.append(String.format("  skip  %s%n", name)));
+        return out.toString();
+    }
+
+    // why the scenario has to run, null when it does not
+    private String changed(Scenario scenario) {
+        String storedCode = code.get(scenario.name());
+        if (storedCode == null) {
+            return "no earlier pass";
+        }
+        if (!storedCode.equals(codeHash(scenario))) {
+            return "code changed";
+        }
+        String[] stored = pages.getOrDefault(scenario.name(), "").split(" ");
+        for (int i = 0; i + 1 < stored.length; i += 2) {
+            if (!stored[i + 1].equals(PageFingerprints.hash(stored[i]))) {
+                return "page changed: " + stored[i];
+            }
+        }
+        return null;
+    }
+
+    private String codeHash(Scenario scenario) {
+        MessageDigest digest = sha256();
+        update(digest, scenario.name() + '\n' + DriverFactory.browserFor(scenario) + '\n' + Config.get("site.base", "live"));
+        for (Map.Entry<String, String> entry : closure(scenario.source()).entrySet()) {
+            update(digest, entry.getKey() + ' ' + entry.getValue());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // every project class reachable from source, name -> bytecode hash, sorted by name
+    private Map<String, String> closure(Class<?> source) {
+        ClassLoader loader = source.getClassLoader();
+        Map<String, String> reached = new TreeMap<>();
+        Deque<String> queue = new ArrayDeque<>(List.of(source.getName().replace('.', '/')));
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            if (reached.containsKey(name)) {
+                continue;
+            }
+            byte[] bytes = bytecode(loader, name);
+            if (bytes == null) {
+                // a name that only looks like a class (a string constant), nothing to hash
+                reached.put(name, "none");
+                continue;
+            }
+            reached.put(name, classHashes.computeIfAbsent(name, n -> HexFormat.of().formatHex(sha256().digest(bytes))));
+            queue.addAll(referencedClasses(bytes));
+        }
+        return reached;
+    }
+
+    private static byte[] bytecode(ClassLoader loader, String name) {
+        try (InputStream in = loader.getResourceAsStream(name + ".class")) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** Project classes named in the constant pool, as Class entries or inside type descriptors. */
+    static Set<String> referencedClasses(byte[] classFile) {
+        Set<String> names = new TreeSet<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile))) {
+            in.skipBytes(8); // magic, minor, major
+            int count = in.readUnsignedShort();
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1: // Utf8, class names of Class entries are Utf8 entries too
+                        String utf8 = in.readUTF();
+                        if (utf8.startsWith(PROJECT_PACKAGE)) {
+                            names.add(utf8);
+                        }
+                        Matcher matcher = DESCRIPTOR_CLASS.matcher(utf8);
+                        while (matcher.find()) {
+                            names.add(matcher.group(1));
+                        }
+                        break;
+                    case 7: case 8: case 16: case 19: case 20:
+                        in.skipBytes(2);
+                        break;
+                    case 15:
+                        in.skipBytes(3);
+                        break;
+                    case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+                        in.skipBytes(4);
+                        break;
+                    case 5: case 6: // long and double take two slots
+                        in.skipBytes(8);
+                        i++;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return names;
+    }
+
+    private static void update(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.saad.Framework;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** One record of a {@link RowSource}: column name to value, plus where it came from in the file. */
+public final class Row {
+
+    private final long index;
+    private final long offset;
+    private final long nextOffset;
+    private final Map<String, String> values;
+
+    Row(long index, long offset, long nextOffset, Map<String, String> values) {
+        this.index = index;
+        this.offset = offset;
+        this.nextOffset = nextOffset;
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /** A row that did not come from a file, e.g. the one hardcoded record of a flow. */
+    public static Row of(Map<String, String> values) {
+        return new Row(0, 0, 0, new LinkedHashMap<>(values));
+    }
+
+    /** Position among the data rows of the file, the header does not count. */
+    public long index() {
+        return index;
+    }
+
+    /** Byte offset where the row starts. */
+    public long offset() {
+        return offset;
+    }
+
+    /** Byte offset right after the row, where reading continues. */
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    public Map<String, String> values() {
+        return values;
+    }
+
+    /** Value of the column, empty string for a missing column or an empty cell. */
+    public String get(String column) {
+        String value = values.get(column);
+        return value == null ? "" : value;
+    }
+
+    public boolean getBoolean(String column) {
+        return Boolean.parseBoolean(get(column).trim());
+    }
+
+    @Override
+    public String toString() {
+        return "Row#" + index + values;
+    }
+}
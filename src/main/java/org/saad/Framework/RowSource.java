@@ -0,0 +1,254 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads rows one at a time from a CSV (first line is the header, quotes like
+ * RFC 4180, so quoted cells may hold commas and new lines) or JSONL file (one
+ * JSON object per line).
+ *
+ * The file is memory mapped in windows of {@link #WINDOW} bytes and only the row
+ * being parsed is copied to the heap, so memory stays the same for a file of a
+ * thousand rows or of ten million. The OS page cache is shared, several sources
+ * over the same file (one per shard, see {@link DataDrivenRun}) do not read it twice.
+ *
+ * {@link #open(Path, long, long)} starts at a byte offset a previous run stopped
+ * at, e.g. {@link Row#nextOffset()} of the last finished row.
+ * {@link #open(Path, long, long, int, int)} returns only the rows of one shard, the
+ * others are scanned for where they end but not copied or parsed.
+ */
+public final class RowSource implements Iterator<Row>, AutoCloseable {
+
+    public enum Format {
+        CSV,
+        JSONL
+    }
+
+    static final long WINDOW = 64L << 20;
+
+    private static final Json JSON = new Json();
+
+    private final FileChannel channel;
+    private final long size;
+    private final Format format;
+    private final int shard;
+    private final int shards;
+    private final List<String> header;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+
+    private MappedByteBuffer window;
+    private long windowStart = -1;
+    private long position;
+    private long index;
+    private Row next;
+
+    private RowSource(Path file, Format format, int shard, int shards) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.format = format;
+        this.shard = shard;
+        this.shards = shards;
+        this.header = format == Format.CSV ? readHeader() : List.of();
+    }
+
+    public static RowSource open(Path file) {
+        return open(file, 0, 0);
+    }
+
+    /** Continues at byte {@code offset}, the row found there gets number {@code index}. */
+    public static RowSource open(Path file, long offset, long index) {
+        return open(file, offset, index, 0, 1);
+    }
+
+    /** Like {@link #open(Path, long, long)}, but only the rows whose index % shards is shard. */
+    public static RowSource open(Path file, long offset, long index, int shard, int shards) {
+        if (shards < 1 || shard < 0 || shard >= shards) {
+            throw new IllegalArgumentException("Shard " + shard + " of " + shards);
+        }
+        try {
+            RowSource source = new RowSource(file, formatOf(file), shard, shards);
+            source.position = Math.max(source.position, offset);
+            source.index = index;
+            return source;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open data file " + file, e);
+        }
+    }
+
+    public static Format formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return Format.CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return Format.JSONL;
+        }
+        throw new IllegalArgumentException("Unsupported data file " + file + ", use .csv or .jsonl");
+    }
+
+    public List<String> header() {
+        return header;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = read();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    private Row read() {
+        while (position < size) {
+            long start = position;
+            boolean mine = index % shards == shard;
+            // blank lines are no rows, so every shard counts the same indexes
+            if (!scanRecord(mine)) {
+                continue;
+            }
+            long number = index++;
+            if (mine) {
+                String record = record();
+                return new Row(number, start, position, format == Format.CSV ? csv(record) : jsonl(record));
+            }
+        }
+        return null;
+    }
+
+    private List<String> readHeader() {
+        scanRecord(true);
+        String record = record();
+        // a UTF-8 byte order mark would end up in the first column name
+        if (record.startsWith("\uFEFF")) {
+            record = record.substring(1);
+        }
+        List<String> names = new ArrayList<>();
+        for (String name : splitCsv(record)) {
+            names.add(name.trim());
+        }
+        return names;
+    }
+
+    // moves position past the next line break that is not inside quotes, copying the
+    // bytes before it into line when keep is set; false for a line of only whitespace
+    private boolean scanRecord(boolean keep) {
+        line.reset();
+        boolean quoted = false;
+        boolean blank = true;
+        while (position < size) {
+            byte b = byteAt(position++);
+            if (b == '"' && format == Format.CSV) {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                break;
+            }
+            // every byte of a multi-byte UTF-8 character is above ' '
+            blank &= (b & 0xFF) <= ' ';
+            if (keep) {
+                line.write(b);
+            }
+        }
+        return !blank;
+    }
+
+    // the record scanRecord(true) kept, without the \r of a CRLF line break
+    private String record() {
+        int length = line.size();
+        byte[] bytes = line.toByteArray();
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private byte byteAt(long at) {
+        if (window == null || at < windowStart || at >= windowStart + window.limit()) {
+            try {
+                windowStart = at;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, at, Math.min(WINDOW, size - at));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot map data file at " + at, e);
+            }
+        }
+        return window.get((int) (at - windowStart));
+    }
+
+    private Map<String, String> csv(String record) {
+        List<String> cells = splitCsv(record);
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            values.put(header.get(i), i < cells.size() ? cells.get(i) : "");
+        }
+        return values;
+    }
+
+    private static List<String> splitCsv(String record) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static Map<String, String> jsonl(String record) {
+        Map<String, Object> parsed = JSON.toType(record, Json.MAP_TYPE);
+        Map<String, String> values = new LinkedHashMap<>();
+        parsed.forEach((key, value) -> values.put(key, value == null ? "" : String.valueOf(value)));
+        return values;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A named flow that runs against a driver it is given, so the runner decides
+ * where the browser comes from (pool, grid, ...) instead of the flow itself.
+ */
+public final class Scenario {
+
+    @FunctionalInterface
+    public interface Flow {
+        void run(WebDriver driver) throws Exception;
+    }
+
+    /** What the flow needs from the browser, see {@link DriverFactory#forScenario(Scenario)}. */
+    public enum Capability {
+        // reads titles, text, attributes and form state of server-rendered pages, an in-JVM browser is enough
+        STATIC_DOM,
+        // heavy JS, layout, alerts or third party pages, needs a real browser
+        REAL_BROWSER
+    }
+
+    private final String name;
+    private final Class<?> source;
+    private final Flow flow;
+    private final Capability capability;
+
+    private Scenario(String name, Class<?> source, Flow flow, Capability capability) {
+        this.name = name;
+        this.source = source;
+        this.flow = flow;
+        this.capability = capability;
+    }
+
+    public static Scenario of(Class<?> source, Flow flow) {
+        return of(source.getSimpleName(), source, flow);
+    }
+
+    public static Scenario of(String name, Class<?> source, Flow flow) {
+        return new Scenario(name, source, flow, Capability.REAL_BROWSER);
+    }
+
+    public Scenario needs(Capability capability) {
+        return new Scenario(name, source, flow, capability);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<?> source() {
+        return source;
+    }
+
+    public Capability capability() {
+        return capability;
+    }
+
+    public void run(WebDriver driver) throws Exception {
+        flow.run(driver);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,61 @@
+package org.saad.Framework;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/** Collects the wall time of every scenario run so the runner can print where the time went. */
+public final class ScenarioReport {
+
+    public static final class Result {
+        public final String scenario;
+        public final String thread;
+        public final long nanos;
+        public final boolean passed;
+
+        Result(String scenario, String thread, long nanos, boolean passed) {
+            this.scenario = scenario;
+            this.thread = thread;
+            this.nanos = nanos;
+            this.passed = passed;
+        }
+
+        public long millis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+    }
+
+    private static final ConcurrentLinkedQueue<Result> RESULTS = new ConcurrentLinkedQueue<>();
+
+    private ScenarioReport() {
+    }
+
+    public static void record(String scenario, long nanos, boolean passed) {
+        RESULTS.add(new Result(scenario, Thread.currentThread().getName(), nanos, passed));
+    }
+
+    public static List<Result> results() {
+        return new ArrayList<>(RESULTS);
+    }
+
+    public static void clear() {
+        RESULTS.clear();
+    }
+
+    public static void print(long wallNanos) {
+        List<Result> results = results();
+        results.sort(Comparator.comparingLong((Result r) -> r.nanos).reversed());
+        long sum = 0;
+        System.out.println();
+        System.out.printf("%-28s %10s  %-6s %s%n", "Scenario", "Time(ms)", "Status", "Thread");
+        for (Result result : results) {
+            sum += result.nanos;
+            System.out.printf("%-28s %10d  %-6s %s%n", result.scenario, result.millis(),
+                    result.passed ? "PASS" : "FAIL", result.thread);
+        }
+        System.out.printf("Sum of scenario times: %d ms, wall time: %d ms%n",
+                TimeUnit.NANOSECONDS.toMillis(sum), TimeUnit.NANOSECONDS.toMillis(wallNanos));
+    }
+}
@@ -0,0 +1,84 @@
+package org.saad.Framework;
+
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Runs the org.saad flows in parallel inside one JVM.
+ *
+ * mvn compile exec:java -Dexec.mainClass=org.saad.Framework.ScenarioRunner -Dthreads=4 -Dscenarios=Alerts,Checkbox
+ *
+ * -Dinstrument=true times every WebDriver command and writes target/command-timings.json/.hlog,
+ * -Dinstrument.live=10 also prints the running numbers every 10 seconds.
+ * -Dgrid.url=http://localhost:4444 runs the browsers on a Grid with one thread per slot; scenarios start
+ * longest first by their history in .history/ (-Dschedule=declared for declaration order).
+ * Results stream to target/report (-Dreport.dir), -Dtestng.default.reports=true brings back test-output.
+ * -Dscreenshots=on-failure|on-step|sampled|off decides what lands in target/screenshots, see Screenshots.
+ * -Dincremental=true skips scenarios whose code and pages did not change since they last passed,
+ * -Dfull.run=true runs all of them anyway and refreshes that cache, see ResultCache.
+ */
+public class ScenarioRunner {
+
+    public static void main(String[] args) {
+        // on a Grid, as many threads as it has sessions for the browser unless -Dthreads says otherwise
+        if (!Config.gridUrl().isEmpty() && System.getProperty("threads") == null) {
+            int slots = GridStatus.slots(Config.gridUrl(), Config.browser());
+            if (slots == 0) {
+                throw new IllegalStateException("Grid " + Config.gridUrl() + " has no " + Config.browser() + " slots on its nodes");
+            }
+            System.setProperty("threads", String.valueOf(slots));
+        }
+        int threads = Config.threads();
+        // on an incremental run this already fingerprints the scenarios and drops the unchanged ones
+        List<Scenario> scenarios = ScenarioTest.toRun();
+        System.out.print(ScenarioTest.cacheSummary());
+        System.out.print(new LptScheduler(ScenarioTest.history()).summary(scenarios, threads, ScenarioTest.longestFirst()));
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("org.saad scenarios");
+        suite.setDataProviderThreadCount(threads);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("scenarios x" + threads);
+        test.setXmlClasses(List.of(new XmlClass(ScenarioTest.class)));
+
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(List.of(suite));
+        // results go to disk as they finish (target/report), TestNG's own reports keep the whole suite in memory
+        testng.addListener(new StreamingReportListener(Path.of(Config.get("report.dir", "target/report"))));
+        testng.setUseDefaultListeners(Config.getBoolean("testng.default.reports", false));
+
+        int livePeriod = Config.getInt("instrument.live", 0);
+        if (Config.instrument() && livePeriod > 0) {
+            CommandTimings.get().startLiveSummary(Duration.ofSeconds(livePeriod), System.out);
+        }
+
+        long start = System.nanoTime();
+        testng.run();
+        ScenarioReport.print(System.nanoTime() - start);
+        System.out.print(PageReadiness.stats().summary());
+        System.out.print(Steps.summary());
+        System.out.print(FrameContext.summary());
+        System.out.print(RemoteUpload.summary());
+        Screenshots.get().flush(Duration.ofSeconds(30));
+        System.out.print(Screenshots.get().summary());
+
+        if (Config.instrument()) {
+            System.out.print(CommandTimings.get().summary());
+            try {
+                CommandTimings.get().export(Path.of("target", "command-timings"));
+            } catch (IOException e) {
+                System.out.println("Could not write command timings: " + e.getMessage());
+            }
+        }
+
+        System.exit(testng.getStatus());
+    }
+}
@@ -0,0 +1,128 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs every selected scenario as one TestNG invocation. The data provider is
+ * parallel, so TestNG spreads the scenarios over data-provider-thread-count
+ * threads and each invocation borrows its own browser from the pool.
+ * There is one pool per backend (chrome, htmlunit, ...), see -Dbackend.
+ */
+public class ScenarioTest {
+
+    private static final Map<String, DriverPool> POOLS = new ConcurrentHashMap<>();
+    private static final DurationHistory HISTORY = DurationHistory.load();
+    private static final boolean CACHING = ResultCache.enabled();
+    private static final ResultCache RESULTS = CACHING ? ResultCache.load() : null;
+    private static List<Scenario> toRun;
+
+    @BeforeClass(alwaysRun = true)
+    public void startPools() {
+        List<Scenario> scenarios = toRun();
+        // only start browsers up front for the backends this run will use
+        Map<String, Integer> perBackend = new HashMap<>();
+        for (Scenario scenario : scenarios) {
+            perBackend.merge(DriverFactory.browserFor(scenario), 1, Integer::sum);
+        }
+        perBackend.forEach((browser, count) -> pool(browser).prewarm(Math.min(Config.poolSize(), count)));
+    }
+
+    // longest expected scenario first, every free thread takes the next one (LPT), -Dschedule=declared turns it off
+    @DataProvider(name = "scenarios", parallel = true)
+    public Object[][] scenarios() {
+        List<Scenario> scenarios = toRun();
+        if (longestFirst()) {
+            scenarios = new LptScheduler(HISTORY).order(scenarios);
+        }
+        Object[][] data = new Object[scenarios.size()][];
+        for (int i = 0; i < scenarios.size(); i++) {
+            data[i] = new Object[]{scenarios.get(i)};
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "scenarios")
+    public void run(Scenario scenario) throws Exception {
+        DriverPool pool = pool(DriverFactory.browserFor(scenario));
+        WebDriver borrowed = pool.borrow(Duration.ofMinutes(5));
+        WebDriver driver = Config.instrument() ? CommandTimings.get().wrap(borrowed, scenario.name()) : borrowed;
+        long start = System.nanoTime();
+        boolean passed = false;
+        if (CACHING) {
+            PageFingerprints.startRecording();
+        }
+        try {
+            scenario.run(driver);
+            passed = true;
+        } catch (Exception | AssertionError e) {
+            // grabbed before the browser is reset for the next borrower
+            Screenshots.get().failure(borrowed, scenario.name());
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            ScenarioReport.record(scenario.name(), nanos, passed);
+            if (passed) {
+                // a failure can end early or hang until a timeout, neither says how long the scenario takes
+                HISTORY.record(scenario.name(), Duration.ofNanos(nanos).toMillis());
+            }
+            pool.release(borrowed);
+            if (CACHING) {
+                // fingerprinted after the browser is back in the pool, it only needs plain HTTP
+                Set<String> pages = PageFingerprints.stopRecording();
+                if (passed) {
+                    RESULTS.passed(scenario, pages);
+                } else {
+                    RESULTS.failed(scenario);
+                }
+            }
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopPools() {
+        POOLS.forEach((browser, pool) -> {
+            System.out.println(browser + " " + pool.summary());
+            pool.close();
+        });
+        POOLS.clear();
+        HISTORY.save();
+        if (CACHING) {
+            RESULTS.save();
+        }
+    }
+
+    static DurationHistory history() {
+        return HISTORY;
+    }
+
+    static boolean longestFirst() {
+        return !"declared".equals(Config.get("schedule", "lpt"));
+    }
+
+    /** The selected scenarios minus those an incremental run skips, see {@link ResultCache}. */
+    static synchronized List<Scenario> toRun() {
+        if (toRun == null) {
+            toRun = CACHING ? RESULTS.select(Scenarios.selected()) : Scenarios.selected();
+        }
+        return toRun;
+    }
+
+    static String cacheSummary() {
+        return CACHING ? RESULTS.summary() : "";
+    }
+
+    private static DriverPool pool(String browser) {
+        return POOLS.computeIfAbsent(browser, b -> new DriverPool(Config.poolSize(), () -> DriverFactory.create(b)));
+    }
+}
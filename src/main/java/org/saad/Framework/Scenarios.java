@@ -0,0 +1,82 @@
+package org.saad.Framework;
+
+import org.saad.Alerts;
+import org.saad.Assigment01_Checkbox;
+import org.saad.Assigment02;
+import org.saad.AutosugeestiveDropdown;
+import org.saad.Basics;
+import org.saad.BrowserNavigation;
+import org.saad.CalenderUI;
+import org.saad.Checkbox;
+import org.saad.DynamicDropDown;
+import org.saad.EcommerceAddingtoCart;
+import org.saad.IntermediateTopics.Frames;
+import org.saad.IntermediateTopics.WaitsAssigment;
+import org.saad.Locators;
+import org.saad.SiblingsAndParentToChild;
+import org.saad.StaticDropdown;
+import org.saad.TagandAssertions1;
+import org.saad.Xpaths;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.saad.Framework.Scenario.Capability.STATIC_DOM;
+
+/**
+ * Every org.saad flow that can run on a borrowed driver.
+ * A new flow only needs a public static run(WebDriver) method and a line here.
+ * Flows that only read static DOM are marked STATIC_DOM so -Dbackend=auto can
+ * run them in-JVM.
+ */
+public final class Scenarios {
+
+    private Scenarios() {
+    }
+
+    public static List<Scenario> all() {
+        return List.of(
+                Scenario.of(Alerts.class, Alerts::run),
+                Scenario.of(Assigment01_Checkbox.class, Assigment01_Checkbox::run).needs(STATIC_DOM),
+                Scenario.of(Assigment02.class, Assigment02::run),
+                Scenario.of(AutosugeestiveDropdown.class, AutosugeestiveDropdown::run),
+                Scenario.of(Basics.class, Basics::run).needs(STATIC_DOM),
+                Scenario.of(BrowserNavigation.class, BrowserNavigation::run),
+                Scenario.of(CalenderUI.class, CalenderUI::run),
+                Scenario.of(Checkbox.class, Checkbox::run).needs(STATIC_DOM),
+                Scenario.of(DynamicDropDown.class, DynamicDropDown::run),
+                Scenario.of(EcommerceAddingtoCart.class, EcommerceAddingtoCart::run),
+                Scenario.of(Frames.class, Frames::run).needs(STATIC_DOM),
+                Scenario.of(Locators.class, Locators::run),
+                Scenario.of(SiblingsAndParentToChild.class, SiblingsAndParentToChild::run).needs(STATIC_DOM),
+                Scenario.of("StaticDropdown.select", StaticDropdown.class, StaticDropdown::runSelect).needs(STATIC_DOM),
+                Scenario.of("StaticDropdown.travellers", StaticDropdown.class, StaticDropdown::runTravellers),
+                Scenario.of(TagandAssertions1.class, TagandAssertions1::run),
+                Scenario.of(WaitsAssigment.class, WaitsAssigment::run),
+                Scenario.of(Xpaths.class, Xpaths::run));
+    }
+
+    /** The scenarios named in -Dscenarios=Alerts,Checkbox or all of them when the property is not set. */
+    public static List<Scenario> selected() {
+        String filter = Config.get("scenarios", "");
+        if (filter.isEmpty()) {
+            return all();
+        }
+        Set<String> names = Arrays.stream(filter.split(","))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        List<Scenario> selected = new ArrayList<>();
+        for (Scenario scenario : all()) {
+            if (names.remove(scenario.name())) {
+                selected.add(scenario);
+            }
+        }
+        if (!names.isEmpty()) {
+            throw new IllegalArgumentException("Unknown scenarios in -Dscenarios: " + names);
+        }
+        return selected;
+    }
+}
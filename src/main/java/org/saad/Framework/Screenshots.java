@@ -0,0 +1,244 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Screenshots that cost the test thread one WebDriver call and nothing else.
+ *
+ * The test thread only asks the browser for the base64 PNG it already sends over
+ * the wire; decoding, hashing, optional re-encoding and the disk write happen on a
+ * small background executor with a bounded queue. When the queue is full the frame
+ * is dropped and counted rather than making the test wait. Frames with the same
+ * content (a failing loop on the same page) are written once, the index file
+ * target/screenshots/index.tsv lists every capture with the file it points to.
+ *
+ * -Dscreenshots=on-failure (default) | on-step | sampled | off
+ * -Dscreenshots.sample=10      with sampled: every 10th step, failures always
+ * -Dscreenshots.format=png|jpg jpg re-encodes at -Dscreenshots.quality=0.8, much smaller files
+ * -Dscreenshots.dir=target/screenshots
+ *
+ * Steps are the named PageReadiness waits, failures come from ScenarioTest.
+ */
+public final class Screenshots {
+
+    public enum Policy {
+        OFF,
+        ON_FAILURE,
+        // every step and every failure
+        ON_STEP,
+        // every n-th step and every failure
+        SAMPLED
+    }
+
+    private static final Screenshots INSTANCE = new Screenshots();
+
+    private final Policy policy = Policy.valueOf(Config.get("screenshots", "on-failure").toUpperCase(Locale.ROOT).replace('-', '_'));
+    private final int sampleEvery = Math.max(1, Config.getInt("screenshots.sample", 10));
+    private final String format = Config.get("screenshots.format", "png").toLowerCase(Locale.ROOT);
+    private final float quality = Float.parseFloat(Config.get("screenshots.quality", "0.8"));
+    private final Path dir = Path.of(Config.get("screenshots.dir", "target/screenshots"));
+
+    // content hash -> file name, only hashes stay in memory
+    private final Map<String, String> written = new ConcurrentHashMap<>();
+    private final AtomicLong steps = new AtomicLong();
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong grabNanos = new AtomicLong();
+    private final AtomicLong backgroundNanos = new AtomicLong();
+    private final Object indexLock = new Object();
+
+    private ThreadPoolExecutor executor;
+
+    private Screenshots() {
+        if (!"png".equals(format) && !"jpg".equals(format)) {
+            throw new IllegalArgumentException("Unsupported -Dscreenshots.format '" + format + "', use png or jpg");
+        }
+    }
+
+    public static Screenshots get() {
+        return INSTANCE;
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    /** A named step finished, captured under on-step and every n-th time under sampled. */
+    public void step(WebDriver driver, String label) {
+        if (policy == Policy.ON_STEP || (policy == Policy.SAMPLED && steps.incrementAndGet() % sampleEvery == 0)) {
+            capture(driver, label);
+        }
+    }
+
+    /** A scenario failed, captured under every policy except off. */
+    public void failure(WebDriver driver, String label) {
+        if (policy != Policy.OFF) {
+            capture(driver, "FAILED " + label);
+        }
+    }
+
+    /** Captures now, whatever the policy. */
+    public void capture(WebDriver driver, String label) {
+        if (!(driver instanceof TakesScreenshot)) {
+            return;
+        }
+        long start = System.nanoTime();
+        String base64;
+        try {
+            base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // closed window, alert open, or a driver without screenshots (HtmlUnit)
+            failed.incrementAndGet();
+            return;
+        } finally {
+            grabNanos.addAndGet(System.nanoTime() - start);
+        }
+        captured.incrementAndGet();
+        Instant at = Instant.now();
+        String thread = Thread.currentThread().getName();
+        try {
+            executor().execute(() -> store(base64, label, thread, at));
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private synchronized ThreadPoolExecutor executor() {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(64), r -> {
+                Thread thread = new Thread(r, "screenshots");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        }
+        return executor;
+    }
+
+    private void store(String base64, String label, String thread, Instant at) {
+        long start = System.nanoTime();
+        String file = "-";
+        String note = "";
+        try {
+            byte[] png = Base64.getMimeDecoder().decode(base64);
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png));
+            file = hash.substring(0, 16) + "." + format;
+            if (written.containsKey(hash)) {
+                duplicates.incrementAndGet();
+                note = "\tduplicate";
+            } else {
+                Files.createDirectories(dir);
+                Files.write(dir.resolve(file), "jpg".equals(format) ? jpeg(png) : png);
+                // only now, a frame whose write failed is written again the next time it comes
+                written.put(hash, file);
+            }
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            failed.incrementAndGet();
+            file = "-";
+            note = "\tfailed: " + String.valueOf(e).replace('\t', ' ').replace('\n', ' ');
+        } finally {
+            backgroundNanos.addAndGet(System.nanoTime() - start);
+        }
+        // the capture is listed either way, the index is the record of what happened when
+        try {
+            index(at + "\t" + thread + "\t" + label.replace('\t', ' ') + "\t" + file + note);
+        } catch (IOException e) {
+            failed.incrementAndGet();
+        }
+    }
+
+    private byte[] jpeg(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a PNG ImageIO can read");
+        }
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.getGraphics().drawImage(image, 0, 0, null);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 4);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private void index(String line) throws IOException {
+        // its own lock, so capture() never waits on the executor() monitor behind a disk write
+        synchronized (indexLock) {
+            // a failed capture may be the first one, before any frame created the directory
+            Files.createDirectories(dir);
+            try (Writer writer = Files.newBufferedWriter(dir.resolve("index.tsv"), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(line);
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
+    /** Waits until every queued frame is on disk. */
+    public void flush(Duration timeout) {
+        ThreadPoolExecutor current;
+        synchronized (this) {
+            current = executor;
+            executor = null;
+        }
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            current.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public String summary() {
+        long count = captured.get();
+        return String.format("Screenshots[policy=%s, captured=%d, written=%d, duplicates=%d, dropped=%d, failed=%d, "
+                        + "testThreadAvg=%dms, backgroundAvg=%dms, dir=%s]%n",
+                policy, count, written.size(), duplicates.get(), dropped.get(), failed.get(),
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(grabNanos.get() / count),
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(backgroundNanos.get() / count), dir);
+    }
+}
@@ -0,0 +1,182 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Logs in once per user and site, then hands the logged in state (cookies,
+ * localStorage, sessionStorage) to every other driver that needs it.
+ *
+ * <pre>
+ * SessionCache.get().restoreOrLogin(driver, "rahulshettyacademy",
+ *         "https://rahulshettyacademy.com/loginpagePractise/", Duration.ofMinutes(30), WaitsAssigment::login);
+ * </pre>
+ *
+ * The first caller for a user@origin runs the login flow and the state is
+ * captured at the end of it. Later callers, also on other threads and pooled
+ * drivers, open the site once and get the state applied instead. Entries
+ * expire after their TTL and can be dropped with {@link #invalidate}, e.g.
+ * when a flow finds the restored session was rejected.
+ */
+public final class SessionCache {
+
+    /** Everything a browser needs to be logged in on one origin. */
+    public static final class SessionState {
+        final Set<Cookie> cookies;
+        final Map<String, String> localStorage;
+        final Map<String, String> sessionStorage;
+        final Instant expires;
+
+        SessionState(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage, Instant expires) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+            this.expires = expires;
+        }
+
+        boolean expired() {
+            return Instant.now().isAfter(expires);
+        }
+    }
+
+    private static final SessionCache INSTANCE = new SessionCache();
+
+    private static final String CAPTURE_SCRIPT =
+            "var copy = function (storage) {"
+            + "  var out = {};"
+            + "  for (var i = 0; i < storage.length; i++) { var key = storage.key(i); out[key] = storage.getItem(key); }"
+            + "  return out;"
+            + "};"
+            + "return {local: copy(window.localStorage), session: copy(window.sessionStorage)};";
+
+    private static final String RESTORE_SCRIPT =
+            "var fill = function (storage, values) { for (var key in values) { storage.setItem(key, values[key]); } };"
+            + "fill(window.localStorage, arguments[0]);"
+            + "fill(window.sessionStorage, arguments[1]);";
+
+    private final ConcurrentHashMap<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Object> locks = new ConcurrentHashMap<>();
+    // small values scraped on the way to a login, e.g. TagandAssertions1's temporary password
+    private final ConcurrentHashMap<String, Map.Entry<String, Instant>> values = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+    }
+
+    public static SessionCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Leaves {@code driver} logged in as {@code user} on the origin of {@code siteUrl}:
+     * from the cache when there is a fresh entry, otherwise by running {@code login}
+     * and caching what it left behind. Returns true when the cached state was used.
+     */
+    public boolean restoreOrLogin(WebDriver driver, String user, String siteUrl, Duration ttl, Consumer<WebDriver> login) {
+        String key = key(user, siteUrl);
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            SessionState state = sessions.get(key);
+            if (state != null && !state.expired()) {
+                restore(driver, siteUrl, state);
+                return true;
+            }
+            login.accept(driver);
+            sessions.put(key, capture(driver, ttl));
+            return false;
+        }
+    }
+
+    /** Returns the cached value for {@code user} on {@code siteUrl}, computing it with {@code scrape} when missing or expired. */
+    public String value(String user, String siteUrl, String name, Duration ttl, Function<String, String> scrape) {
+        String key = key(user, siteUrl) + "#" + name;
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            Map.Entry<String, Instant> cached = values.get(key);
+            if (cached != null && Instant.now().isBefore(cached.getValue())) {
+                return cached.getKey();
+            }
+            String value = scrape.apply(name);
+            values.put(key, Map.entry(value, Instant.now().plus(ttl)));
+            return value;
+        }
+    }
+
+    public void invalidate(String user, String siteUrl) {
+        String key = key(user, siteUrl);
+        sessions.remove(key);
+        values.keySet().removeIf(k -> k.startsWith(key + "#"));
+    }
+
+    public void invalidateAll() {
+        sessions.clear();
+        values.clear();
+    }
+
+    /** Cookies of the current domain plus both storages of the current page's origin. */
+    @SuppressWarnings("unchecked")
+    public static SessionState capture(WebDriver driver, Duration ttl) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        return new SessionState(
+                Set.copyOf(driver.manage().getCookies()),
+                toStrings((Map<String, Object>) storage.get("local")),
+                toStrings((Map<String, Object>) storage.get("session")),
+                Instant.now().plus(ttl));
+    }
+
+    /**
+     * Opens {@code siteUrl} (cookies and storage can only be set on their own origin)
+     * and applies the state: one CDP call for all cookies on Chromium, one script for both storages.
+     */
+    public static void restore(WebDriver driver, String siteUrl, SessionState state) {
+        driver.get(siteUrl);
+        HasCdp cdp = DriverPool.cdp(driver);
+        if (cdp != null && !state.cookies.isEmpty()) {
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            for (Cookie cookie : state.cookies) {
+                Map<String, Object> c = new HashMap<>();
+                c.put("name", cookie.getName());
+                c.put("value", cookie.getValue());
+                c.put("domain", cookie.getDomain());
+                c.put("path", cookie.getPath());
+                c.put("secure", cookie.isSecure());
+                c.put("httpOnly", cookie.isHttpOnly());
+                if (cookie.getExpiry() != null) {
+                    c.put("expires", cookie.getExpiry().getTime() / 1000);
+                }
+                cookies.add(c);
+            }
+            cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cookies));
+        } else {
+            for (Cookie cookie : state.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(RESTORE_SCRIPT, state.localStorage, state.sessionStorage);
+    }
+
+    private static String key(String user, String siteUrl) {
+        URI uri = URI.create(siteUrl);
+        return user + "@" + uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static Map<String, String> toStrings(Map<String, Object> raw) {
+        Map<String, String> out = new LinkedHashMap<>();
+        if (raw != null) {
+            raw.forEach((k, v) -> out.put(k, v == null ? null : String.valueOf(v)));
+        }
+        return out;
+    }
+}
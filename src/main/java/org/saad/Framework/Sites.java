@@ -0,0 +1,50 @@
+package org.saad.Framework;
+
+import java.net.URI;
+
+/**
+ * Decides whether a flow talks to the live practice sites or to local copies.
+ *
+ * -Dsite.base not set            the live URL is used as is
+ * -Dsite.base=local              an embedded {@link FixtureServer} is started on a free port
+ * -Dsite.base=http://host:8088   a fixture server that is already running
+ *
+ * driver.get(Sites.resolve("https://rahulshettyacademy.com/AutomationPractice/"));
+ */
+public final class Sites {
+
+    private static FixtureServer embedded;
+
+    private Sites() {
+    }
+
+    public static String resolve(String liveUrl) {
+        PageFingerprints.visited(liveUrl);
+        String base = Config.get("site.base", "");
+        if (base.isEmpty() || base.equals("live")) {
+            return liveUrl;
+        }
+        if (base.equals("local")) {
+            base = embeddedServer().baseUrl();
+        }
+        URI uri = URI.create(liveUrl);
+        StringBuilder local = new StringBuilder(base.endsWith("/") ? base.substring(0, base.length() - 1) : base)
+                .append('/').append(uri.getHost())
+                .append(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            local.append('?').append(uri.getRawQuery());
+        }
+        if (uri.getRawFragment() != null) {
+            local.append('#').append(uri.getRawFragment());
+        }
+        return local.toString();
+    }
+
+    private static synchronized FixtureServer embeddedServer() {
+        if (embedded == null) {
+            embedded = FixtureServer.start(0);
+            Runtime.getRuntime().addShutdownHook(new Thread(embedded::close));
+        }
+        return embedded;
+    }
+}
@@ -0,0 +1,152 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries one failing action instead of the whole scenario.
+ *
+ * <pre>
+ * Steps.run("forgot password name", () -> driver.findElement(By.xpath("//input[@placeholder='Name']")).sendKeys("abc"));
+ * </pre>
+ *
+ * The action is a lambda, so a retry finds the element again. Only failures that
+ * go away by themselves are retried ({@link #isTransient}): stale elements, clicks
+ * landing on an overlay or a sliding panel, elements not interactable or not there
+ * yet. Everything else fails at once: assertion errors, invalid selectors,
+ * timeouts of waits that already waited, a dead session.
+ *
+ * Do not combine it with an implicit wait: every attempt of a missing element
+ * would wait that out first, attempts x implicit wait before the step fails.
+ *
+ * Attempts and backoff: -Dretry.attempts (default 4) and -Dretry.backoff.ms
+ * (default 100, doubled after every failure, at most 1s). Every step is counted in
+ * {@link #summary()} so flaky steps show up even when they recovered.
+ */
+public final class Steps {
+
+    /** An action that may throw anything, like a flow. */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Exception;
+    }
+
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    private static final class Entry {
+        long steps;
+        long retries;
+        long recovered;
+        long failed;
+        final Map<String, Long> causes = new TreeMap<>();
+    }
+
+    private static final ConcurrentHashMap<String, Entry> STATS = new ConcurrentHashMap<>();
+
+    private Steps() {
+    }
+
+    public static void run(String label, Action action) {
+        get(label, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T get(String label, Call<T> call) {
+        int attempts = Math.max(1, Config.getInt("retry.attempts", 4));
+        long backoff = Math.max(0, Config.getInt("retry.backoff.ms", 100));
+        Entry entry = STATS.computeIfAbsent(label, k -> new Entry());
+        synchronized (entry) {
+            entry.steps++;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = call.call();
+                if (attempt > 1) {
+                    synchronized (entry) {
+                        entry.recovered++;
+                    }
+                }
+                return result;
+            } catch (Exception | AssertionError e) {
+                boolean retry = isTransient(e) && attempt < attempts;
+                synchronized (entry) {
+                    if (retry) {
+                        entry.retries++;
+                        entry.causes.merge(e.getClass().getSimpleName(), 1L, Long::sum);
+                    } else {
+                        entry.failed++;
+                    }
+                }
+                if (!retry) {
+                    throw rethrow(e);
+                }
+                sleep(backoff);
+                backoff = Math.min(MAX_BACKOFF_MILLIS, Math.max(1, backoff * 2));
+            }
+        }
+    }
+
+    /** Whether the failure is the page still moving rather than the application being wrong. */
+    public static boolean isTransient(Throwable failure) {
+        if (failure instanceof InvalidSelectorException) {
+            // a subclass of NoSuchElementException, but retrying a broken locator never helps
+            return false;
+        }
+        return failure instanceof StaleElementReferenceException
+                // also covers ElementClickInterceptedException
+                || failure instanceof ElementNotInteractableException
+                || failure instanceof NoSuchElementException
+                || failure instanceof MoveTargetOutOfBoundsException;
+    }
+
+    public static void clear() {
+        STATS.clear();
+    }
+
+    public static String summary() {
+        StringBuilder out = new StringBuilder(String.format("%-44s %6s %8s %9s %7s %s%n", "Step", "Runs", "Retries", "Recovered", "Failed", "Causes"));
+        for (Map.Entry<String, Entry> e : new TreeMap<>(STATS).entrySet()) {
+            Entry entry = e.getValue();
+            synchronized (entry) {
+                out.append(String.format("%-44s %6d %8d %9d %7d %s%n", e.getKey(), entry.steps, entry.retries,
+                        entry.recovered, entry.failed, entry.causes.isEmpty() ? "" : entry.causes));
+            }
+        }
+        return out.toString();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    // checked exceptions of a flow are passed on wrapped, everything else as it is
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new IllegalStateException(failure);
+    }
+}
@@ -0,0 +1,206 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Renders the files written by {@link StreamingReportListener} to HTML.
+ *
+ * index.html holds the totals, the failures and links to the result pages,
+ * page-N.html holds {@link #PAGE_SIZE} results each in run order. Everything is
+ * streamed from the index file and results are read one at a time at their offset,
+ * so rendering a suite of a million results needs as little memory as one of ten.
+ * A page that is full and already links to the next one does not change any more.
+ * The number of such pages is kept in {@value #FINAL_PAGES} and they are not
+ * rendered again, so rendering again during a run only costs the new results.
+ *
+ * Render a partial report while a run is going on with
+ * java -cp ... org.saad.Framework.StreamingReport target/report
+ */
+public final class StreamingReport {
+
+    static final String RESULTS = "results.jsonl";
+    static final String INDEX = "results.idx";
+    // how many page-N.html files are final, pages after that are rendered again
+    static final String FINAL_PAGES = "pages.final";
+    // offset (long), length (int), status (byte), millis (int)
+    static final int INDEX_RECORD = 8 + 4 + 1 + 4;
+
+    static final byte PASS = 0;
+    static final byte FAIL = 1;
+    static final byte SKIP = 2;
+
+    public static final int PAGE_SIZE = 500;
+    private static final int MAX_FAILURES_ON_INDEX = 200;
+
+    private static final Json JSON = new Json();
+
+    private StreamingReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of(args.length > 0 ? args[0] : "target/report");
+        render(dir);
+        System.out.println("Report: " + dir.resolve("index.html").toAbsolutePath());
+    }
+
+    static String statusName(byte status) {
+        return status == PASS ? "PASS" : status == FAIL ? "FAIL" : "SKIP";
+    }
+
+    public static void render(Path dir) throws IOException {
+        Path indexFile = dir.resolve(INDEX);
+        // a record that is being written right now is not complete yet
+        long count = Files.size(indexFile) / INDEX_RECORD;
+        long[] byStatus = new long[3];
+        long totalMillis = 0;
+        long slowest = 0;
+        try (DataInputStream index = open(indexFile)) {
+            for (long i = 0; i < count; i++) {
+                index.readLong();
+                index.readInt();
+                byStatus[index.readByte()]++;
+                int millis = index.readInt();
+                totalMillis += millis;
+                slowest = Math.max(slowest, millis);
+            }
+        }
+        long pages = (count + PAGE_SIZE - 1) / PAGE_SIZE;
+        Path finalPagesFile = dir.resolve(FINAL_PAGES);
+        long finalPages = Files.exists(finalPagesFile) ? Long.parseLong(Files.readString(finalPagesFile).trim()) : 0;
+
+        try (FileChannel results = FileChannel.open(dir.resolve(RESULTS), StandardOpenOption.READ)) {
+            for (long page = Math.min(finalPages, pages); page < pages; page++) {
+                long first = page * PAGE_SIZE;
+                long last = Math.min(count, first + PAGE_SIZE);
+                renderPage(dir, results, dir.resolve("page-" + (page + 1) + ".html"), page + 1, first, last, pages);
+            }
+            // full and followed by another page, so it has its Next link and keeps its rows
+            Files.writeString(finalPagesFile, String.valueOf(Math.min(count / PAGE_SIZE, Math.max(0, pages - 1))));
+            try (Writer out = Files.newBufferedWriter(dir.resolve("index.html"), StandardCharsets.UTF_8)) {
+                head(out, "Scenario report");
+                out.write(String.format("<p>%d results: <b class=PASS>%d passed</b>, <b class=FAIL>%d failed</b>, "
+                                + "<b class=SKIP>%d skipped</b>. Sum of test time %d s, slowest %d ms.</p>%n",
+                        count, byStatus[PASS], byStatus[FAIL], byStatus[SKIP], totalMillis / 1000, slowest));
+                out.write("<p>Pages:");
+                for (long page = 1; page <= pages; page++) {
+                    out.write(" <a href=\"page-" + page + ".html\">" + page + "</a>");
+                }
+                out.write("</p>\n<h2>Failures</h2>\n<table>\n<tr><th>#</th><th>Test</th><th>ms</th><th>Error</th></tr>\n");
+                long shown = 0;
+                try (DataInputStream index = open(indexFile)) {
+                    for (long i = 0; i < count && shown < MAX_FAILURES_ON_INDEX; i++) {
+                        long offset = index.readLong();
+                        int length = index.readInt();
+                        byte status = index.readByte();
+                        index.readInt();
+                        if (status == FAIL) {
+                            row(out, i, read(results, offset, length), false);
+                            shown++;
+                        }
+                    }
+                }
+                out.write("</table>\n");
+                if (byStatus[FAIL] > shown) {
+                    out.write("<p>" + (byStatus[FAIL] - shown) + " more failures on the result pages.</p>\n");
+                }
+                out.write("</body></html>\n");
+            }
+        }
+    }
+
+    private static void renderPage(Path dir, FileChannel results, Path file, long page, long first, long last, long pages) throws IOException {
+        try (DataInputStream index = open(dir.resolve(INDEX));
+             Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            index.skipNBytes(first * INDEX_RECORD);
+            head(out, "Results " + (first + 1) + "-" + last);
+            out.write("<p><a href=\"index.html\">Summary</a>");
+            if (page > 1) {
+                out.write(" <a href=\"page-" + (page - 1) + ".html\">Previous</a>");
+            }
+            if (page < pages) {
+                out.write(" <a href=\"page-" + (page + 1) + ".html\">Next</a>");
+            }
+            out.write("</p>\n<table>\n<tr><th>#</th><th>Test</th><th>ms</th><th>Status / error</th></tr>\n");
+            for (long i = first; i < last; i++) {
+                long offset = index.readLong();
+                int length = index.readInt();
+                index.readByte();
+                index.readInt();
+                row(out, i, read(results, offset, length), true);
+            }
+            out.write("</table>\n</body></html>\n");
+        }
+    }
+
+    private static void row(Writer out, long number, Map<String, Object> result, boolean withStatus) throws IOException {
+        String status = String.valueOf(result.get("status"));
+        out.write("<tr class=" + status + "><td>" + (number + 1) + "</td><td>" + escape(result.get("name"))
+                + "</td><td>" + result.get("millis") + "</td><td>");
+        if (withStatus) {
+            out.write(status + " ");
+        }
+        if (result.get("trace") != null) {
+            out.write("<details><summary>" + escape(result.get("error")) + "</summary><pre>"
+                    + escape(result.get("trace")) + "</pre></details>");
+        }
+        out.write("</td></tr>\n");
+    }
+
+    private static Map<String, Object> read(FileChannel results, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (results.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("results file ends before offset " + offset);
+            }
+        }
+        return JSON.toType(new String(buffer.array(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+    }
+
+    private static DataInputStream open(Path index) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(index), 64 * 1024));
+    }
+
+    private static void head(Writer out, String title) throws IOException {
+        out.write("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>" + escape(title) + "</title><style>"
+                + "body{font-family:sans-serif}table{border-collapse:collapse}td,th{border:1px solid #ccc;padding:2px 6px;vertical-align:top}"
+                + ".PASS{color:#060}.FAIL{color:#a00}.SKIP{color:#850}pre{white-space:pre-wrap;margin:0}"
+                + "</style></head><body>\n<h1>" + escape(title) + "</h1>\n");
+    }
+
+    private static String escape(Object value) {
+        String text = String.valueOf(value);
+        StringBuilder out = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
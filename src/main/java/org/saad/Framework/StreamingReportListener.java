@@ -0,0 +1,163 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * TestNG listener that writes every result to disk the moment the test finishes,
+ * instead of keeping the suite in memory and rendering it at the end.
+ *
+ * results.jsonl gets one JSON object per result, results.idx one fixed size record
+ * per result (offset and length of the line, status, duration; see
+ * {@link StreamingReport#INDEX_RECORD}). Both are flushed after every result, so
+ * {@link StreamingReport} can render a partial report while the suite is still
+ * running. Nothing about a finished test stays in memory.
+ */
+public class StreamingReportListener implements ITestListener, ISuiteListener {
+
+    private static final Json JSON = new Json();
+
+    private final Path dir;
+    private OutputStream lines;
+    private OutputStream index;
+    private long offset;
+
+    public StreamingReportListener(Path dir) {
+        this.dir = dir;
+    }
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        if (lines != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(dir);
+            // a new run starts a new report, an old one would mix two runs in one index
+            lines = Files.newOutputStream(dir.resolve(StreamingReport.RESULTS), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            index = Files.newOutputStream(dir.resolve(StreamingReport.INDEX), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            offset = 0;
+            // the pages of an earlier run in the same directory would be taken for final pages of this one
+            Files.deleteIfExists(dir.resolve(StreamingReport.FINAL_PAGES));
+            try (DirectoryStream<Path> pages = Files.newDirectoryStream(dir, "page-*.html")) {
+                for (Path page : pages) {
+                    Files.delete(page);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start report in " + dir, e);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        write(result, StreamingReport.PASS);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        write(result, StreamingReport.FAIL);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        write(result, StreamingReport.FAIL);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        write(result, StreamingReport.SKIP);
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        write(result, StreamingReport.FAIL);
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (lines == null) {
+            return;
+        }
+        try {
+            lines.close();
+            index.close();
+            lines = null;
+            index = null;
+            StreamingReport.render(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot finish report in " + dir, e);
+        }
+    }
+
+    private void write(ITestResult result, byte status) {
+        long millis = Math.max(0, result.getEndMillis() - result.getStartMillis());
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", name(result));
+        json.put("method", result.getMethod().getQualifiedName());
+        json.put("status", StreamingReport.statusName(status));
+        json.put("start", result.getStartMillis());
+        json.put("millis", millis);
+        json.put("thread", Thread.currentThread().getName());
+        if (result.getThrowable() != null) {
+            StringWriter trace = new StringWriter();
+            result.getThrowable().printStackTrace(new PrintWriter(trace));
+            json.put("error", String.valueOf(result.getThrowable().getMessage()));
+            json.put("trace", trace.toString());
+        }
+        StringBuilder text = new StringBuilder();
+        try (JsonOutput out = JSON.newOutput(text)) {
+            out.setPrettyPrint(false).write(json);
+        }
+        byte[] line = text.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(StreamingReport.INDEX_RECORD)
+                .putLong(0)
+                .putInt(line.length)
+                .put(status)
+                .putInt((int) Math.min(Integer.MAX_VALUE, millis));
+        synchronized (this) {
+            if (lines == null) {
+                return;
+            }
+            record.putLong(0, offset);
+            try {
+                lines.write(line);
+                lines.flush();
+                index.write(record.array());
+                index.flush();
+                offset += line.length;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write result to " + dir, e);
+            }
+        }
+    }
+
+    // scenarios run through one data driven method, the parameter tells them apart
+    private static String name(ITestResult result) {
+        Object[] parameters = result.getParameters();
+        if (parameters != null && parameters.length == 1) {
+            return String.valueOf(parameters[0]);
+        }
+        return result.getMethod().getMethodName();
+    }
+}
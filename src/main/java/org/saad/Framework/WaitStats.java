@@ -0,0 +1,46 @@
+package org.saad.Framework;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Records how long each named wait actually took, so we can see what a fixed sleep would have cost. */
+public final class WaitStats {
+
+    private static final class Entry {
+        long count;
+        long timeouts;
+        long totalNanos;
+        long maxNanos;
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public void record(String label, long nanos, boolean timedOut) {
+        Entry entry = entries.computeIfAbsent(label, k -> new Entry());
+        synchronized (entry) {
+            entry.count++;
+            entry.totalNanos += nanos;
+            entry.maxNanos = Math.max(entry.maxNanos, nanos);
+            if (timedOut) {
+                entry.timeouts++;
+            }
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public String summary() {
+        StringBuilder out = new StringBuilder(String.format("%-44s %6s %9s %9s %8s%n", "Wait", "Count", "Avg(ms)", "Max(ms)", "Timeouts"));
+        for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+            Entry entry = e.getValue();
+            synchronized (entry) {
+                out.append(String.format("%-44s %6d %9d %9d %8d%n", e.getKey(), entry.count,
+                        entry.totalNanos / entry.count / 1_000_000, entry.maxNanos / 1_000_000, entry.timeouts));
+            }
+        }
+        return out.toString();
+    }
+}
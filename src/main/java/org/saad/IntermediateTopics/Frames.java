@@ -0,0 +1,53 @@
+package org.saad.IntermediateTopics;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.saad.Framework.DriverFactory;
+import org.saad.Framework.FrameContext;
+import org.saad.Framework.FrameLocator;
+import org.saad.Framework.Sites;
+import org.testng.Assert;
+
+import java.util.List;
+
+/**
+ * The iFrame example of the practice page, see Iframe.md.
+ */
+public class Frames {
+
+    private static final By COURSES_IFRAME = By.id("courses-iframe");
+    private static final FrameLocator COURSES_LINKS = FrameLocator.in(COURSES_IFRAME, By.tagName("a"));
+    private static final FrameLocator NAME = FrameLocator.top(By.id("name"));
+    private static final FrameLocator CHECKBOX = FrameLocator.top(By.id("checkBoxOption1"));
+
+    public static void main(String[] args) {
+        WebDriver driver = DriverFactory.create();
+        run(driver);
+        driver.quit();
+    }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/AutomationPractice/"));
+        //driver.switchTo().frame("courses-iframe");
+        //... driver.switchTo().defaultContent();
+        // around every step costs two switches, the context only switches when the frame changes
+        try (FrameContext frames = new FrameContext(driver)) {
+            // getTitle() is always the top page, inside the frame ask its document
+            String title = frames.in(List.of(COURSES_IFRAME),
+                    d -> (String) ((JavascriptExecutor) d).executeScript("return document.title"));
+            System.out.println(title);
+            Assert.assertTrue(title.contains("Rahul Shetty Academy"));
+            // still in the frame, no switch
+            int links = frames.findAll(COURSES_LINKS).size();
+            System.out.println(links);
+            Assert.assertTrue(links > 0, "no links in the courses iframe");
+
+            // one switch back to the page for both
+            frames.find(NAME).sendKeys("Saad");
+            frames.find(CHECKBOX).click();
+            Assert.assertTrue(frames.find(CHECKBOX).isSelected());
+            Assert.assertEquals(frames.find(NAME).getAttribute("value"), "Saad");
+        }
+    }
+}
@@ -7,6 +7,9 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.saad.Framework.Options;
+import org.saad.Framework.SessionCache;
+import org.saad.Framework.Sites;
 
 import java.time.Duration;
 import java.util.List;
@@ -19,26 +22,19 @@ public class WaitsAssigment {
 
         System.setProperty("webdriver.chrome.driver", "C:\\Users\\USER\\Downloads\\chromedriver-win64 (1)\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/loginpagePractise/");
+        run(driver);
+        driver.quit();
 
-        driver.findElement(By.xpath("//input[@id='username']")).sendKeys("rahulshettyacademy");
-        driver.findElement(By.xpath("//input[@id='password']")).sendKeys("learning");
 
-        driver.findElement(By.xpath("//input[@value='user']")).click();
-       // driver.manage().timeouts().implicitlyWait(10, TimeUnit.SECONDS);
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(20)); // 10 seconds
-        //Thread.sleep(7000);
-        driver.findElement(By.xpath("//button[@id='okayBtn']")).click();
 
-        //System.out.println(driver.switchTo().alert().getText());
-        //driver.switchTo().alert().accept();
-        WebElement dropdown = driver.findElement(By.xpath("//select[@class='form-control']"));
-
-        Select select = new Select(dropdown);
-        select.selectByValue("consult");
-        driver.findElement(By.xpath("//input[@id='terms']")).click();
+    }
 
-        driver.findElement(By.xpath("//input[@id='signInBtn']")).click();
+    public static void run(WebDriver driver) {
+        // only the first run in the suite goes through the login form, later runs reuse its session
+        SessionCache.get().restoreOrLogin(driver, "rahulshettyacademy",
+                Sites.resolve("https://rahulshettyacademy.com/loginpagePractise/"), Duration.ofMinutes(30), WaitsAssigment::login);
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(20));
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/angularpractice/shop"));
         WebDriverWait wait= new WebDriverWait(driver,Duration.ofSeconds(10));
 
         try{
@@ -58,20 +54,36 @@ public class WaitsAssigment {
         driver.findElement(By.xpath("//input[@id='country']")).sendKeys("Pak");
         WebElement my= wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//div[@class='suggestions']//ul")));
 
-        List<WebElement> opt= driver.findElements(By.xpath("//div[@class='suggestions']//ul"));
-        for(WebElement i: opt){
-            if(i.getText().equalsIgnoreCase("Pakistan")){
-                i.click();
-                break;
-            }
-        }
+        // one call instead of getText() per suggestion, and like that loop it goes on when none matches
+        Options.tryPick(driver, By.xpath("//div[@class='suggestions']//ul"), "Pakistan", Options.Match.IGNORE_CASE);
        // WebDriverWait expWeight= new WebDriverWait(driver, Duration.ofSeconds(10));
         WebElement my1= wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//label[@for='checkbox2']")));
         my1.click();
         driver.findElement(By.xpath("//input[@value='Purchase']")).click();
-        driver.quit();
+    }
+
+    public static void login(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/loginpagePractise/"));
+
+        driver.findElement(By.xpath("//input[@id='username']")).sendKeys("rahulshettyacademy");
+        driver.findElement(By.xpath("//input[@id='password']")).sendKeys("learning");
+
+        driver.findElement(By.xpath("//input[@value='user']")).click();
+       // driver.manage().timeouts().implicitlyWait(10, TimeUnit.SECONDS);
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(20)); // 10 seconds
+        //Thread.sleep(7000);
+        driver.findElement(By.xpath("//button[@id='okayBtn']")).click();
 
+        //System.out.println(driver.switchTo().alert().getText());
+        //driver.switchTo().alert().accept();
+        WebElement dropdown = driver.findElement(By.xpath("//select[@class='form-control']"));
 
+        Select select = new Select(dropdown);
+        select.selectByValue("consult");
+        driver.findElement(By.xpath("//input[@id='terms']")).click();
 
+        driver.findElement(By.xpath("//input[@id='signInBtn']")).click();
+        // the session is captured once the shop has opened
+        new WebDriverWait(driver,Duration.ofSeconds(10)).until(ExpectedConditions.urlContains("shop"));
     }
 }
@@ -3,6 +3,7 @@ package org.saad;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.Sites;
 
 import java.time.Duration;
 
@@ -14,11 +15,18 @@ public class Locators {
         System.setProperty("webdriver.chrome.driver", "C:\\chromedriver-win64\\chromedriver.exe");
 
         WebDriver driver =new ChromeDriver();
+        run(driver);
+        driver.close();
+        driver.quit();
+
+    }
+
+    public static void run(WebDriver driver) {
 
         // Implicit waits added so when we put wrong credentials error banner capture
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
 
-        driver.get("https://rahulshettyacademy.com/locatorspractice/");
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/locatorspractice/"));
         //Identify locator and play with it
         //by ID
         driver.findElement(By.id("inputUsername")).sendKeys("rahul");
@@ -48,8 +56,5 @@ public class Locators {
         // tagName[attribute='value'] -> input[placeholder="username"]
         //but make sure its unique to a page
         System.out.println(driver.findElement(By.cssSelector("p.error")).getText());
-        driver.close();
-        driver.quit();
-
     }
 }
@@ -0,0 +1,46 @@
+package org.saad.Pages;
+
+import org.openqa.selenium.WebElement;
+import org.saad.Framework.Codegen.GeneratePage;
+import org.saad.Framework.Codegen.Locate;
+import org.saad.Framework.Codegen.Locate.Fill;
+
+/**
+ * Angular form used by Assigment02.
+ * The page object AngularPracticePage is generated from this interface while compiling.
+ */
+@GeneratePage(name = "AngularPracticePage", url = "https://rahulshettyacademy.com/angularpractice/")
+public interface AngularPractice {
+
+    @Locate(xpath = "//input[@minlength='2']", fill = Fill.TEXT)
+    WebElement name();
+
+    @Locate(xpath = "//input[@name='email']", fill = Fill.TEXT)
+    WebElement email();
+
+    @Locate(id = "exampleInputPassword1", fill = Fill.TEXT)
+    WebElement password();
+
+    @Locate(id = "exampleCheck1", fill = Fill.CHECK)
+    WebElement iceCream();
+
+    // option text, e.g. "Male"
+    @Locate(id = "exampleFormControlSelect1", fill = Fill.TEXT)
+    WebElement gender();
+
+    @Locate(id = "inlineRadio1", fill = Fill.CHECK)
+    WebElement student();
+
+    @Locate(id = "inlineRadio2", fill = Fill.CHECK)
+    WebElement employed();
+
+    // yyyy-MM-dd, what a date input holds whatever format it shows
+    @Locate(name = "bday", fill = Fill.TEXT)
+    WebElement birthday();
+
+    @Locate(xpath = "//input[@value='Submit']")
+    WebElement submit();
+
+    @Locate(xpath = "//div[@class='alert alert-success alert-dismissible']")
+    WebElement successMessage();
+}
@@ -0,0 +1,51 @@
+package org.saad.Pages;
+
+import org.openqa.selenium.WebElement;
+import org.saad.Framework.Codegen.GeneratePage;
+import org.saad.Framework.Codegen.Locate;
+import org.saad.Framework.Codegen.Locate.Fill;
+
+/**
+ * Login page used by TagandAssertions1.
+ * The page object LocatorsPracticePage is generated from this interface while compiling.
+ */
+@GeneratePage(name = "LocatorsPracticePage", url = "https://rahulshettyacademy.com/locatorspractice/")
+public interface LocatorsPractice {
+
+    @Locate(id = "inputUsername", fill = Fill.TEXT)
+    WebElement username();
+
+    @Locate(name = "inputPassword", fill = Fill.TEXT)
+    WebElement password();
+
+    @Locate(id = "chkboxOne", fill = Fill.CHECK)
+    WebElement rememberUsername();
+
+    @Locate(id = "chkboxTwo", fill = Fill.CHECK)
+    WebElement agreeTerms();
+
+    @Locate(className = "signInBtn")
+    WebElement signIn();
+
+    @Locate(css = "p.error")
+    WebElement error();
+
+    @Locate(linkText = "Forgot your password?")
+    WebElement forgotPassword();
+
+    @Locate(css = "button.reset-pwd-btn")
+    WebElement resetPassword();
+
+    @Locate(xpath = "//p[@class='infoMsg']")
+    WebElement infoMessage();
+
+    // after login
+    @Locate(tagName = "p")
+    WebElement welcomeMessage();
+
+    @Locate(css = "div[class*=login] h2")
+    WebElement greeting();
+
+    @Locate(xpath = "//*[text()='Log Out']")
+    WebElement logOut();
+}
@@ -3,6 +3,8 @@ package org.saad;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.DomSnapshot;
+import org.saad.Framework.Sites;
 
 import javax.xml.transform.Source;
 
@@ -13,7 +15,17 @@ public class SiblingsAndParentToChild {
         String greenColor = "\u001B[32m";
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/AutomationPractice/");
+        run(driver);
+
+        driver.close();
+        System.out.println(greenColor + "All Test Pass!");
+        System.exit(0);
+    }
+
+    public static void run(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/AutomationPractice/"));
+        // the page does not change below, every xpath is answered from one snapshot
+        DomSnapshot page = DomSnapshot.take(driver);
         /*
         Absolute xpath mean stating from HTML tag, so we do like this /html/body/header
         Relative xpath mean we do not start from top we jump to the middle of the page, so we do like this //body/header
@@ -21,11 +33,11 @@ public class SiblingsAndParentToChild {
 
         //Sibling Tag  -> //tag/tag/tag[index]/following-sibling::tag[index] INDEX is optional
         //body/header/div/button[1]/following-sibling::button[1]
-        System.out.println(driver.findElement(By.xpath("//body/header/div/button[1]/following-sibling::button[1]")).getText());
+        System.out.println(page.text(By.xpath("//body/header/div/button[1]/following-sibling::button[1]")));
 
         //Child To Parent -> //tag/tag/tag[index]/parent::tag/tag[index]
         //body/header/div/button[1]/parent::tag/button[1] INDEX is optional
-        System.out.println(driver.findElement(By.xpath("//body/header/div/button[1]/parent::div/button[1]")).getText());
+        System.out.println(page.text(By.xpath("//body/header/div/button[1]/parent::div/button[1]")));
 
 
         // Parent to child
@@ -34,9 +46,5 @@ public class SiblingsAndParentToChild {
         //tagName[@key='value'] //child xpath
 
         //Child to parent & Sibling option is only allowed to Xpath not CSS
-
-        driver.close();
-        System.out.println(greenColor + "All Test Pass!");
-        System.exit(0);
     }
 }
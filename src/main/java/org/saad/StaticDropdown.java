@@ -4,7 +4,12 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.saad.Framework.NetworkPolicy;
+import org.saad.Framework.NetworkProfile;
+import org.saad.Framework.Options;
+import org.saad.Framework.PageReadiness;
 import org.openqa.selenium.support.ui.Select;
+import org.saad.Framework.Sites;
 
 public class StaticDropdown {
 
@@ -17,7 +22,25 @@ public class StaticDropdown {
 
         System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
         WebDriver driver= new ChromeDriver();
-        driver.get("https://rahulshettyacademy.com/AutomationPractice/");
+        run(driver);
+
+
+        driver.close();
+        System.exit(0);
+
+
+
+
+    }
+
+    public static void run(WebDriver driver) {
+        runSelect(driver);
+        runTravellers(driver);
+    }
+
+    // Static <select> part, plain DOM so it can run on the in-JVM browser as well
+    public static void runSelect(WebDriver driver) {
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/AutomationPractice/"));
 
         // Work for dropdown which have static means they have static tag
         WebElement staticDropdown = driver.findElement(By.id("dropdown-class-example"));
@@ -28,38 +51,34 @@ public class StaticDropdown {
         dropdown.selectByIndex(3);
         System.out.println(dropdown.getFirstSelectedOption().getText());
         //select using visible text
-        dropdown.selectByVisibleText("Option1");
+        //dropdown.selectByVisibleText("Option1");
+        //same as selectByVisibleText but the option is matched inside the browser in one call
+        Options.select(driver, staticDropdown, "Option1", Options.Match.EXACT);
         System.out.println(dropdown.getFirstSelectedOption().getText());
         //select using value
         dropdown.selectByValue("option2");
         System.out.println(dropdown.getFirstSelectedOption().getText());
+    }
 
-        //Move to Dropdown which has incremental counter (not static)
-        driver.navigate().to("https://www.spicejet.com/");
+    //Move to Dropdown which has incremental counter (not static)
+    public static void runTravellers(WebDriver driver) {
+        // pictures and trackers are never asserted on, do not wait for them to download
+        NetworkPolicy network = NetworkPolicy.apply(driver, NetworkProfile.fromConfig(NetworkProfile.ASSERTIONS_ONLY));
         try {
-            Thread.sleep(8000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-        System.out.println(driver.findElement(By.xpath("//div[contains(text(), '1 Adult') and contains(@class, 'css-76zvg2')]")).getText());
-        driver.findElement(By.xpath("//div[@data-testid='home-page-travellers']")).click();
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-        for(int i=0; i<5;i++){
-            driver.findElement(By.xpath("//div[@data-testid='Adult-testID-plus-one-cta']")).click();
-            i++;
-        }
-        System.out.println(driver.findElement(By.xpath("//div[contains(text(), '4 Adult') and contains(@class, 'css-76zvg2')]")).getText());
-
-
-        driver.close();
-        System.exit(0);
-
-
-
+            driver.navigate().to(Sites.resolve("https://www.spicejet.com/"));
+            PageReadiness.await(driver, "spicejet home");
+            System.out.println(driver.findElement(By.xpath("//div[contains(text(), '1 Adult') and contains(@class, 'css-76zvg2')]")).getText());
+            driver.findElement(By.xpath("//div[@data-testid='home-page-travellers']")).click();
+            PageReadiness.await(driver, "spicejet travellers");
+            for(int i=0; i<5;i++){
+                driver.findElement(By.xpath("//div[@data-testid='Adult-testID-plus-one-cta']")).click();
+                i++;
+            }
+            System.out.println(driver.findElement(By.xpath("//div[contains(text(), '4 Adult') and contains(@class, 'css-76zvg2')]")).getText());
 
+            System.out.print(network.report());
+        } finally {
+            network.close();
+        }
     }
 }
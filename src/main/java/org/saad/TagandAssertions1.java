@@ -2,8 +2,12 @@ package org.saad;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.edge.EdgeDriver;
+import org.saad.Framework.DomSnapshot;
+import org.saad.Framework.DriverFactory;
+import org.saad.Framework.PageReadiness;
+import org.saad.Framework.SessionCache;
+import org.saad.Framework.Sites;
+import org.saad.Pages.LocatorsPracticePage;
 import org.testng.Assert;
 
 import java.time.Duration;
@@ -16,53 +20,56 @@ public class TagandAssertions1 {
 
     public static void main(String[] args) {
         String greenColor = "\u001B[32m";
-        String name="Saad";
        // System.setProperty("webdriver.chrome.driver","C:\\chromedriver-win64\\chromedriver.exe");
-        System.setProperty("webdriver.edge.driver","C:\\edgedriver_win64\\msedgedriver.exe");
+       // System.setProperty("webdriver.edge.driver","C:\\edgedriver_win64\\msedgedriver.exe");
 
       //  WebDriver driver=new ChromeDriver();
-        WebDriver driver=new EdgeDriver();
-        String password=getPassword(driver);
+      //  WebDriver driver=new EdgeDriver();
+        // browser picked with -Dbrowser=edge|chrome|firefox instead of commenting lines in and out,
+        // MatrixRunner runs it on all of them at once
+        WebDriver driver=DriverFactory.create();
+        run(driver);
+
+        System.out.println( greenColor + "All test Pass!");
+        driver.close();
+        System.exit(0);
+
+
+    }
+
+    public static void run(WebDriver driver) {
+        String name="Saad";
+        // the forgot password detour only runs once per suite, later runs reuse the scraped password
+        String password=SessionCache.get().value(name, Sites.resolve("https://rahulshettyacademy.com/locatorspractice/"),
+                "password", Duration.ofMinutes(30), key -> getPassword(driver));
         // Implicit waits added so when we put wrong credentials error banner capture // something to show
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
-        driver.get("https://rahulshettyacademy.com/locatorspractice/");
-        driver.findElement(By.id("inputUsername")).sendKeys(name);
-        driver.findElement(By.name("inputPassword")).sendKeys(password);
-        driver.findElement(By.className("signInBtn")).click();
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+        // generated page object (see Pages/LocatorsPractice): both fields are set in one call
+        LocatorsPracticePage page = new LocatorsPracticePage(driver).open();
+        page.fill(name, password, null, null);
+        page.signIn().click();
+        PageReadiness.await(driver, "locatorspractice login");
         //We can find also by tag name selenium driver picks the first tag they counter in page
         //not much recommended
-        System.out.println(driver.findElement(By.tagName("p")).getText());
-        Assert.assertEquals(driver.findElement(By.tagName("p")).getText(),"You are successfully logged in.");
+        // all checks of the logged in page from one snapshot, see DomSnapshot
+        DomSnapshot loggedIn = DomSnapshot.take(driver);
+        System.out.println(loggedIn.text(LocatorsPracticePage.WELCOME_MESSAGE));
+        Assert.assertEquals(loggedIn.text(LocatorsPracticePage.WELCOME_MESSAGE),"You are successfully logged in.");
         //css selector parent to child in xpath //parent/child
-        Assert.assertEquals(driver.findElement(By.cssSelector("div[class*=login] h2")).getText(),"Hello " +name+",");
+        Assert.assertEquals(loggedIn.text(LocatorsPracticePage.GREETING),"Hello " +name+",");
         //Find xpath by tag text
         //If we think that without tag name its unique so don't need to do write it we just add * (only in xpath's)
         // OR if we want so xpath becomes //button[text()='Log Out']
-        driver.findElement(By.xpath("//*[text()='Log Out']")).click();
-
-        System.out.println( greenColor + "All test Pass!");
-        driver.close();
-        System.exit(0);
-
-
+        page.logOut().click();
     }
     //Method to get passwords
     public static String getPassword(WebDriver driver){
 
-        driver.get("https://rahulshettyacademy.com/locatorspractice/");
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/locatorspractice/"));
 
         //LinkText
         driver.findElement(By.linkText("Forgot your password?")).click();
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
+        PageReadiness.await(driver, "locatorspractice forgot password");
 
         driver.findElement(By.cssSelector("button.reset-pwd-btn")).click();
 
@@ -3,32 +3,36 @@ package org.saad;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
-
-import java.time.Duration;
+import org.saad.Framework.Sites;
+import org.saad.Framework.Steps;
 
 public class Xpaths {
-    public static void main(String[] args) throws InterruptedException {
+    public static void main(String[] args) {
         // System.setProperty("webdriver.chrome.driver","/home/saad/Downloads/chromedriver-linux64/chromedriver");
         //For Windows OS Path
         System.setProperty("webdriver.chrome.driver", "C:\\chromedriver-win64\\chromedriver.exe");
 
         WebDriver driver = new ChromeDriver();
+        run(driver);
+    }
 
+    public static void run(WebDriver driver) {
 
-        // Implicit waits added so when we put wrong credentials error banner capture // something to show
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        // No implicit wait here: the steps that wait for the page go through Steps, which retries a missing
+        // element itself, with a 5s implicit wait every retry would first sit out those 5s (up to 20s per step)
 
-        driver.get("https://rahulshettyacademy.com/locatorspractice/");
+        driver.get(Sites.resolve("https://rahulshettyacademy.com/locatorspractice/"));
 
         //LinkText
         driver.findElement(By.linkText("Forgot your password?")).click();
         //something to make sure its stable
-        Thread.sleep(1000);
+        //Thread.sleep(1000);
+        // the form slides in, retry just this step while it is not interactable instead of always sleeping
         //xPath
         // In console for Verification CSS Selector -> $('') & for Xpath -> $x('')
         //create xpath //TageName[@attribute='value'] for example <input type="text" placeholder="Name">
         // xPath becomes ->  //input[@placeholder="Name"]
-        driver.findElement(By.xpath("//input[@placeholder='Name']")).sendKeys("abc");
+        Steps.run("xpaths forgot password name", () -> driver.findElement(By.xpath("//input[@placeholder='Name']")).sendKeys("abc"));
 
         // if we crete a xpath which match multiple tags for example
         //<input type="text" placeholder="a">  -- 1
@@ -50,9 +54,11 @@ public class Xpaths {
         //element click inception exception might occur  (other element place at that location
         // usually happen with application which page load without changing url -> single page application)
         //Solution  Add wait to prevent at point where page change  its state example Thread.sleep(1000) // 1 sec wait pause script for i sec
+        //Better: retry only the click that was intercepted, see Steps
         System.out.println(driver.findElement(By.cssSelector("form p")).getText());
-        Thread.sleep(1000);
-        driver.findElement(By.xpath("//div[@class='forgot-pwd-btn-conainer']/button[1]")).click();
+        //Thread.sleep(1000);
+        // ElementClickInterceptedException while the panel moves is retried with a short backoff
+        Steps.run("xpaths go to login", () -> driver.findElement(By.xpath("//div[@class='forgot-pwd-btn-conainer']/button[1]")).click());
         driver.findElement(By.cssSelector("#inputUsername")).sendKeys("rahul");
         driver.findElement(By.cssSelector("input[type*='pass']")).sendKeys("rahulshettyacademy");   //-- Using regex in css
 
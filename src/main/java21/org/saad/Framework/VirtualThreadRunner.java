@@ -0,0 +1,166 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every scenario on its own virtual thread, for driving many Grid sessions
+ * from one JVM. A scenario spends nearly all its time blocked on the HTTP answer to
+ * a WebDriver command; a virtual thread waiting there costs a few KB of heap
+ * instead of a platform thread with its own stack. Needs JDK 21, it is only built
+ * by the virtual-threads profile of the pom (activated automatically on 21+).
+ *
+ * mvn compile exec:java -Dexec.mainClass=org.saad.Framework.VirtualThreadRunner
+ *     -Dgrid.urls=http://grid-a:4444,http://grid-b:4444 -Drepeat=200
+ *
+ * -Dgrid.urls (or -Dgrid.url) lists the Grids, scenarios are spread round robin.
+ * Each Grid gets its own DriverPool, and the pool size is the concurrency limit for
+ * that Grid: -Dgrid.max.sessions, or its slot count from /status. Without a Grid the
+ * browsers start locally, limited by -Dpool.size. Scenarios queue for a Grid without
+ * a deadline, however long -Drepeat makes the queue; only a borrow with a free slot
+ * has a timeout, for the session to start.
+ * -Drepeat=N runs the selected scenarios N times, for load.
+ *
+ * WebDriver commands go through Selenium's JDK HttpClient (webdriver.http.factory=jdk-http-client),
+ * which blocks on a CompletableFuture rather than inside synchronized code, so the
+ * virtual threads unmount while they wait. -Djdk.tracePinnedThreads=short shows any
+ * code that still pins a carrier thread.
+ */
+public class VirtualThreadRunner {
+
+    // a turn guarantees a free pool slot, what is left to wait for is a new session
+    private static final Duration SESSION_START = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("webdriver.http.factory") == null) {
+            System.setProperty("webdriver.http.factory", "jdk-http-client");
+        }
+        List<String> grids = grids();
+        Map<String, DriverPool> pools = new LinkedHashMap<>();
+        // one turn per pool slot, scenarios queue here rather than in borrow()
+        Map<String, Semaphore> turns = new LinkedHashMap<>();
+        for (String grid : grids) {
+            int limit = limit(grid);
+            pools.put(grid, new DriverPool(limit, () -> DriverFactory.create(Config.browser(), grid)));
+            turns.put(grid, new Semaphore(limit, true));
+            System.out.println((grid.isEmpty() ? "local" : grid) + ": at most " + limit + " sessions");
+        }
+
+        DurationHistory history = DurationHistory.load();
+        List<Scenario> scenarios = new LptScheduler(history).order(Scenarios.selected());
+        int repeat = Config.getInt("repeat", 1);
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("scenario-", 0).factory())) {
+            for (int round = 0; round < repeat; round++) {
+                for (Scenario scenario : scenarios) {
+                    String grid = grids.get(next.getAndIncrement() % grids.size());
+                    results.add(executor.submit(() -> run(scenario, pools.get(grid), turns.get(grid), history)));
+                }
+            }
+        } finally {
+            // leaving the try waited for every scenario
+            pools.forEach((grid, pool) -> {
+                System.out.println((grid.isEmpty() ? "local" : grid) + " " + pool.summary());
+                pool.close();
+            });
+        }
+        long wall = System.nanoTime() - start;
+        for (Future<Boolean> result : results) {
+            try {
+                if (!result.get()) {
+                    failed.incrementAndGet();
+                }
+            } catch (ExecutionException e) {
+                // run() catches everything, but a lost scenario must never count as passed
+                failed.incrementAndGet();
+                System.out.println("Scenario task failed: " + e.getCause());
+            }
+        }
+
+        history.save();
+        if (repeat == 1) {
+            ScenarioReport.print(wall);
+        }
+        int total = scenarios.size() * repeat;
+        System.out.printf("%d scenarios on virtual threads: %d passed, %d failed, wall time %d ms%n",
+                total, total - failed.get(), failed.get(), Duration.ofNanos(wall).toMillis());
+        System.exit(failed.get() == 0 ? 0 : 1);
+    }
+
+    // nothing escapes: a session that cannot be created is a failed scenario too
+    private static boolean run(Scenario scenario, DriverPool pool, Semaphore turn, DurationHistory history)
+            throws InterruptedException {
+        // waiting for a slot is queueing, not the scenario, it neither times out nor counts in its duration
+        turn.acquire();
+        long start = System.nanoTime();
+        WebDriver driver = null;
+        boolean passed = false;
+        try {
+            driver = pool.borrow(SESSION_START);
+            // as in ScenarioTest, the clock runs from the moment the browser is there
+            start = System.nanoTime();
+            scenario.run(driver);
+            passed = true;
+        } catch (Throwable e) {
+            if (driver != null) {
+                Screenshots.get().failure(driver, scenario.name());
+            }
+            System.out.println(scenario.name() + " failed: " + e);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            ScenarioReport.record(scenario.name(), nanos, passed);
+            if (passed) {
+                history.record(scenario.name(), Duration.ofNanos(nanos).toMillis());
+            }
+            if (driver != null) {
+                pool.release(driver);
+            }
+            turn.release();
+        }
+        return passed;
+    }
+
+    private static List<String> grids() {
+        List<String> grids = new ArrayList<>();
+        for (String grid : Config.get("grid.urls", Config.gridUrl()).split(",")) {
+            if (!grid.isBlank()) {
+                grids.add(grid.trim());
+            }
+        }
+        if (grids.isEmpty()) {
+            // local browsers
+            grids.add("");
+        }
+        return grids;
+    }
+
+    private static int limit(String grid) {
+        int configured = Config.getInt("grid.max.sessions", 0);
+        if (grid.isEmpty()) {
+            return Config.poolSize();
+        }
+        if (configured > 0) {
+            return configured;
+        }
+        int slots = GridStatus.slots(grid, Config.browser());
+        if (slots == 0) {
+            throw new IllegalStateException("Grid " + grid + " has no " + Config.browser() + " slots");
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,84 @@
+package org.saad.Framework;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.testng.Assert.assertEquals;
+
+public class DomSnapshotTest {
+
+    private static final DomSnapshot PAGE = DomSnapshot.parse(
+            "<html><body>"
+                    + "<div class='login box'><h2>Hello</h2><input id='user' name='user' type='text'/></div>"
+                    + "<ul><li class='item'><a href='/a,b'>A, B</a></li><li class='item last'><a href='/c'>C</a></li></ul>"
+                    + "<input type='checkbox' id='one' value='x'/><input type='checkbox' id='two' value=\"it's\"/>"
+                    + "</body></html>");
+
+    @Test
+    public void descendantChildAndCompoundSteps() {
+        assertEquals(DomSnapshot.cssToXpath("div.login > h2"),
+                "//div[contains(concat(' ', normalize-space(@class), ' '), ' login ')]/h2");
+        assertEquals(DomSnapshot.cssToXpath("input#user[type='text']"),
+                "//input[@id='user'][@type='text']");
+        assertEquals(DomSnapshot.cssToXpath("ul li"), "//ul//li");
+        assertEquals(PAGE.text(By.cssSelector("div.login > h2")), "Hello");
+    }
+
+    @Test
+    public void attributeOperators() {
+        assertEquals(DomSnapshot.cssToXpath("a[href]"), "//a[@href]");
+        assertEquals(DomSnapshot.cssToXpath("a[href*=\"b\"]"), "//a[contains(@href, 'b')]");
+        assertEquals(DomSnapshot.cssToXpath("a[href^='/c']"), "//a[starts-with(@href, '/c')]");
+        assertEquals(DomSnapshot.cssToXpath("a[href$=c]"),
+                "//a[substring(@href, string-length(@href) - 0)='c']");
+        assertEquals(PAGE.count(By.cssSelector("a[href$='c']")), 1);
+        assertEquals(PAGE.count(By.cssSelector("a[href$='b']")), 1);
+    }
+
+    @Test
+    public void groupsAreJoinedAsUnion() {
+        assertEquals(DomSnapshot.cssToXpath("h2, #one"), "//h2 | //*[@id='one']");
+        assertEquals(PAGE.count(By.cssSelector("h2, #one, #two")), 3);
+    }
+
+    @Test
+    public void commaInsideAQuotedValueDoesNotSplitTheSelector() {
+        assertEquals(DomSnapshot.cssToXpath("a[href='/a,b'], li.last"),
+                "//a[@href='/a,b'] | //li[contains(concat(' ', normalize-space(@class), ' '), ' last ')]");
+        assertEquals(DomSnapshot.cssToXpath("a[href=\"/a,b\"]"), "//a[@href='/a,b']");
+        assertEquals(PAGE.count(By.cssSelector("a[href='/a,b']")), 1);
+    }
+
+    @Test
+    public void valueWithAQuoteBecomesAnXpathLiteralThatKeepsIt() {
+        assertEquals(DomSnapshot.cssToXpath("input[value=\"it's\"]"), "//input[@value=\"it's\"]");
+        assertEquals(PAGE.texts(By.cssSelector("input[value=\"it's\"]")), List.of(""));
+    }
+
+    @Test
+    public void tagNamesAreLowerCasedTheSameInEveryLocale() {
+        Locale before = Locale.getDefault();
+        try {
+            // in Turkish "LI".toLowerCase() is "lı" with a dotless i
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals(DomSnapshot.cssToXpath("LI.item"),
+                    "//li[contains(concat(' ', normalize-space(@class), ' '), ' item ')]");
+            assertEquals(PAGE.count(By.tagName("LI")), 2);
+        } finally {
+            Locale.setDefault(before);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void emptyGroupIsRejected() {
+        DomSnapshot.cssToXpath("h2,");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unsupportedSelectorIsRejected() {
+        DomSnapshot.cssToXpath("li:first-child");
+    }
+}
@@ -0,0 +1,69 @@
+package org.saad.Framework;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DurationHistoryTest {
+
+    @Test
+    public void firstRunIsTakenAsItIs() throws IOException {
+        DurationHistory history = empty();
+
+        history.record("a", 4_000);
+
+        assertTrue(history.knows("a"));
+        assertEquals(history.estimate("a"), 4_000);
+    }
+
+    @Test
+    public void laterRunsMoveTheEstimateByAlpha() throws IOException {
+        DurationHistory history = empty();
+        history.record("a", 10_000);
+
+        history.record("a", 20_000);
+        assertEquals(history.estimate("a"), 13_000);
+
+        history.record("a", 3_000);
+        assertEquals(history.estimate("a"), Math.round(0.3 * 3_000 + 0.7 * 13_000));
+    }
+
+    @Test
+    public void newScenarioGetsTheAverageButAtLeastTheUnknownDefault() throws IOException {
+        DurationHistory history = empty();
+        assertFalse(history.knows("new"));
+        assertEquals(history.estimate("new"), DurationHistory.UNKNOWN_MILLIS);
+
+        history.record("short", 2_000);
+        history.record("shorter", 1_000);
+        assertEquals(history.estimate("new"), DurationHistory.UNKNOWN_MILLIS);
+
+        history.record("long", 57_000);
+        assertEquals(history.estimate("new"), 20_000);
+    }
+
+    @Test
+    public void saveAndLoadKeepTheEstimates() throws IOException {
+        Path file = Files.createTempDirectory("history").resolve("nested").resolve("durations.properties");
+        DurationHistory history = DurationHistory.load(file);
+        history.record("a", 1_234);
+        history.record("b c", 5_678);
+        history.save();
+
+        DurationHistory loaded = DurationHistory.load(file);
+
+        assertEquals(loaded.estimate("a"), 1_234);
+        assertEquals(loaded.estimate("b c"), 5_678);
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+    }
+
+    private static DurationHistory empty() throws IOException {
+        return DurationHistory.load(Files.createTempDirectory("history").resolve("durations.properties"));
+    }
+}
@@ -0,0 +1,73 @@
+package org.saad.Framework;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.assertEquals;
+
+public class LptSchedulerTest {
+
+    @Test
+    public void ordersLongestFirstAndKeepsDeclarationOrderForEqualEstimates() throws IOException {
+        DurationHistory history = history("a", 1_000, "b", 5_000, "c", 1_000, "d", 5_000, "e", 3_000);
+
+        List<Scenario> ordered = new LptScheduler(history).order(scenarios("a", "b", "c", "d", "e"));
+
+        assertEquals(names(ordered), List.of("b", "d", "e", "a", "c"));
+    }
+
+    @Test
+    public void planGivesEachScenarioToTheSlotThatIsFreeFirst() throws IOException {
+        DurationHistory history = history("a", 7_000, "b", 5_000, "c", 4_000, "d", 3_000, "e", 2_000);
+        LptScheduler scheduler = new LptScheduler(history);
+
+        LptScheduler.Plan plan = scheduler.plan(scheduler.order(scenarios("e", "d", "c", "b", "a")), 2);
+
+        // a and b start, c follows b (9s), d follows a (10s), e follows c (11s)
+        assertEquals(names(plan.slots.get(0)), List.of("a", "d"));
+        assertEquals(names(plan.slots.get(1)), List.of("b", "c", "e"));
+        assertEquals(plan.loadMillis, new long[]{10_000, 11_000});
+        assertEquals(plan.makespanMillis(), 11_000);
+    }
+
+    @Test
+    public void longestFirstBeatsADeclarationOrderThatEndsWithTheLongest() throws IOException {
+        DurationHistory history = history("a", 1_000, "b", 1_000, "c", 1_000, "d", 1_000, "e", 4_000);
+        LptScheduler scheduler = new LptScheduler(history);
+        List<Scenario> declared = scenarios("a", "b", "c", "d", "e");
+
+        assertEquals(scheduler.plan(declared, 2).makespanMillis(), 6_000);
+        assertEquals(scheduler.plan(scheduler.order(declared), 2).makespanMillis(), 4_000);
+    }
+
+    @Test
+    public void moreSlotsThanScenariosLeavesSlotsEmpty() throws IOException {
+        LptScheduler.Plan plan = new LptScheduler(history("a", 2_000)).plan(scenarios("a"), 3);
+
+        assertEquals(plan.loadMillis, new long[]{2_000, 0, 0});
+        assertEquals(plan.makespanMillis(), 2_000);
+    }
+
+    static DurationHistory history(Object... nameAndMillis) throws IOException {
+        DurationHistory history = DurationHistory.load(Files.createTempDirectory("history").resolve("durations.properties"));
+        for (int i = 0; i < nameAndMillis.length; i += 2) {
+            history.record((String) nameAndMillis[i], ((Number) nameAndMillis[i + 1]).longValue());
+        }
+        return history;
+    }
+
+    private static List<Scenario> scenarios(String... names) {
+        return List.of(names).stream()
+                .map(name -> Scenario.of(name, LptSchedulerTest.class, driver -> { }))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> names(List<Scenario> scenarios) {
+        return scenarios.stream().map(Scenario::name).collect(Collectors.toList());
+    }
+}
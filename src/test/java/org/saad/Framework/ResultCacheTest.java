@@ -0,0 +1,80 @@
+package org.saad.Framework;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ResultCacheTest {
+
+    @Test
+    public void findsClassesUsedInCode() throws IOException {
+        Set<String> names = ResultCache.referencedClasses(bytecode(Uses.class));
+
+        assertTrue(names.contains("org/saad/Framework/DurationHistory"), names.toString());
+        assertTrue(names.contains("org/saad/Framework/Config"), names.toString());
+    }
+
+    @Test
+    public void findsClassesOnlyNamedInDescriptors() throws IOException {
+        Set<String> names = ResultCache.referencedClasses(bytecode(Uses.class));
+
+        // a field and a parameter type, never instantiated or called
+        assertTrue(names.contains("org/saad/Framework/Row"), names.toString());
+        assertTrue(names.contains("org/saad/Framework/FrameLocator"), names.toString());
+    }
+
+    @Test
+    public void ignoresClassesOutsideTheProject() throws IOException {
+        Set<String> names = ResultCache.referencedClasses(bytecode(Uses.class));
+
+        assertFalse(names.contains("java/util/List"));
+        assertTrue(names.stream().allMatch(name -> name.startsWith("org/saad/")), names.toString());
+    }
+
+    @Test
+    public void readsPastLongDoubleAndDynamicConstants() throws IOException {
+        // a wrong slot count for long/double or a wrong size for a dynamic entry would misread every later entry
+        Set<String> names = ResultCache.referencedClasses(bytecode(Constants.class));
+
+        assertTrue(names.contains("org/saad/Framework/Scenario"), names.toString());
+        assertTrue(names.contains("org/saad/Framework/ResultCacheTest$Constants"), names.toString());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsWhatIsNoClassFile() {
+        byte[] bytes = {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, 61, 0, 2, 99};
+        ResultCache.referencedClasses(bytes);
+    }
+
+    private static byte[] bytecode(Class<?> type) throws IOException {
+        try (InputStream in = type.getClassLoader().getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            return in.readAllBytes();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Uses {
+        private Row row;
+
+        long estimate(FrameLocator locator, List<String> names) {
+            return DurationHistory.load().estimate(Config.browser());
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Constants {
+        static final long BIG = 123_456_789_012L;
+        static final double RATIO = 0.25;
+
+        Supplier<String> name(Scenario scenario) {
+            return () -> scenario.name() + BIG + RATIO;
+        }
+    }
+}
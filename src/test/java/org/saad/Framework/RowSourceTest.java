@@ -0,0 +1,136 @@
+package org.saad.Framework;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class RowSourceTest {
+
+    private Path dir;
+
+    @BeforeMethod
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("rowsource");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDir() throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void quotedCellsKeepCommasAndDoubledQuotes() throws IOException {
+        Path file = write("rows.csv", "name,comment\n\"Doe, John\",\"said \"\"hi\"\"\"\nplain,\n");
+        List<Row> rows = readAll(RowSource.open(file));
+
+        assertEquals(rows.size(), 2);
+        assertEquals(rows.get(0).get("name"), "Doe, John");
+        assertEquals(rows.get(0).get("comment"), "said \"hi\"");
+        assertEquals(rows.get(1).get("name"), "plain");
+        assertEquals(rows.get(1).get("comment"), "");
+    }
+
+    @Test
+    public void quotedCellsKeepLineBreaks() throws IOException {
+        Path file = write("rows.csv", "name,address\r\nann,\"1 Main St\r\nSpringfield\"\r\nbob,\"2nd\nfloor\"\r\n");
+        List<Row> rows = readAll(RowSource.open(file));
+
+        assertEquals(rows.size(), 2);
+        assertEquals(rows.get(0).get("address"), "1 Main St\r\nSpringfield");
+        assertEquals(rows.get(1).get("name"), "bob");
+        assertEquals(rows.get(1).get("address"), "2nd\nfloor");
+        assertEquals(rows.get(1).index(), 1);
+    }
+
+    @Test
+    public void blankLinesAreNoRows() throws IOException {
+        Path file = write("rows.jsonl", "{\"n\":0}\n\n   \n{\"n\":1}\n");
+        List<Row> rows = readAll(RowSource.open(file));
+
+        assertEquals(rows.size(), 2);
+        assertEquals(rows.get(1).get("n"), "1");
+        assertEquals(rows.get(1).index(), 1);
+    }
+
+    @Test
+    public void resumesFromTheOffsetOfTheLastFinishedRow() throws IOException {
+        Path file = write("rows.csv", "id,text\n0,\"a\nb\"\n1,x\n2,\"c,d\"\n3,y\n");
+        List<Row> all = readAll(RowSource.open(file));
+        Row finished = all.get(1);
+
+        List<Row> rest = readAll(RowSource.open(file, finished.nextOffset(), finished.index() + 1));
+
+        assertEquals(rest.size(), 2);
+        assertEquals(rest.get(0).get("id"), "2");
+        assertEquals(rest.get(0).get("text"), "c,d");
+        assertEquals(rest.get(0).index(), 2);
+        assertEquals(rest.get(0).offset(), all.get(2).offset());
+        assertEquals(rest.get(1).get("id"), "3");
+    }
+
+    @Test
+    public void shardsSplitTheRowsWithoutGapsOrOverlap() throws IOException {
+        StringBuilder csv = new StringBuilder("id,text\n");
+        for (int i = 0; i < 20; i++) {
+            // quoted line breaks and blank lines must not shift the numbering between shards
+            csv.append(i).append(i % 3 == 0 ? ",\"multi\nline\"\n" : ",x\n").append(i % 5 == 0 ? "\n" : "");
+        }
+        Path file = write("rows.csv", csv.toString());
+
+        List<String> seen = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++) {
+            for (Row row : readAll(RowSource.open(file, 0, 0, shard, 3))) {
+                assertEquals(row.index() % 3, shard);
+                assertEquals(row.get("id"), String.valueOf(row.index()));
+                seen.add(row.get("id"));
+            }
+        }
+        assertEquals(seen.size(), 20);
+        assertEquals(seen.stream().distinct().count(), 20);
+    }
+
+    @Test
+    public void shardResumesFromItsCheckpoint() throws IOException {
+        Path file = write("rows.csv", "id\n0\n1\n2\n3\n4\n5\n6\n");
+        List<Row> shard1 = readAll(RowSource.open(file, 0, 0, 1, 2));
+        Row finished = shard1.get(0);
+
+        List<Row> rest = readAll(RowSource.open(file, finished.nextOffset(), finished.index() + 1, 1, 2));
+
+        assertEquals(rest.stream().map(r -> r.get("id")).toList(), List.of("3", "5"));
+    }
+
+    @Test
+    public void emptyFileHasNoRows() throws IOException {
+        try (RowSource rows = RowSource.open(write("rows.jsonl", ""))) {
+            assertFalse(rows.hasNext());
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static List<Row> readAll(RowSource source) {
+        List<Row> rows = new ArrayList<>();
+        try (source) {
+            source.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}